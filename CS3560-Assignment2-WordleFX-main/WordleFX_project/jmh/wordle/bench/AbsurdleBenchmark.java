@@ -0,0 +1,38 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import wordle.model.GameState;
+import wordle.model.Stats;
+import wordle.model.WordleModel;
+
+import java.util.concurrent.TimeUnit;
+
+// AbsurdleBenchmark - An adversarial game's first guess, which splits every answer into feedback buckets
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AbsurdleBenchmark {
+    @Param({"SLATE", "FUZZY"})
+    public String guess;
+
+    private WordleModel model;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        model = new WordleModel(BenchData.FULL, new Stats());
+    }
+
+    @Setup(Level.Invocation)
+    public void newGame() {
+        model.newAdversarialGame(GameState.WORD_LEN, GameState.ADVERSARIAL_TURNS);
+    }
+
+    @Benchmark
+    public int firstGuess() {
+        model.submitGuess(guess);
+        return model.remainingCount();
+    }
+}
@@ -0,0 +1,52 @@
+package wordle.bench;
+
+import wordle.model.Dictionary;
+import wordle.model.Feedback;
+import wordle.model.FeedbackCode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// BenchData - Deterministic word lists and guess histories shared by the benchmarks
+final class BenchData {
+    // Full bundled dictionary, loaded once per fork
+    static final Dictionary FULL = new Dictionary(false);
+
+    private BenchData() {}
+
+    // Evenly spread subset of the answer list with n words (n >= list size returns everything)
+    static List<String> subset(int n) {
+        List<String> all = FULL.allCandidates();
+        if (n >= all.size()) return all;
+        List<String> out = new ArrayList<>(n);
+        double step = all.size() / (double) n;
+        for (int i = 0; i < n; i++) out.add(all.get((int) (i * step)));
+        return out;
+    }
+
+    // Dictionary containing only the given words (all valid, all answers)
+    static Dictionary dictionaryOf(List<String> words) {
+        return new Dictionary(words, words);
+    }
+
+    // A fixed game: a secret and the first `guesses` guesses drawn from the words with a seeded Random
+    static final class History {
+        final String secret;
+        final List<String> guesses = new ArrayList<>();
+        final List<Feedback[]> feedback = new ArrayList<>();
+        final int[] codes;
+
+        History(List<String> words, int guesses, long seed) {
+            Random r = new Random(seed);
+            secret = words.get(r.nextInt(words.size()));
+            codes = new int[guesses];
+            for (int i = 0; i < guesses; i++) {
+                String g = words.get(r.nextInt(words.size()));
+                this.guesses.add(g);
+                codes[i] = FeedbackCode.evaluate(g, secret);
+                feedback.add(FeedbackCode.decode(codes[i], g.length()));
+            }
+        }
+    }
+}
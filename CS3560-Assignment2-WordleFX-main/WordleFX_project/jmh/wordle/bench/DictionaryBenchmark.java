@@ -0,0 +1,56 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wordle.model.Dictionary;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// DictionaryBenchmark - Dictionary construction and word validation
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DictionaryBenchmark {
+    @Param({"500", "5757"})
+    public int dictSize;
+
+    private List<String> words;
+    private Dictionary dict;
+    private final StringBuilder buffer = new StringBuilder();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        words = BenchData.subset(dictSize);
+        dict = BenchData.dictionaryOf(words);
+    }
+
+    // Default constructor: packed resource when built by Gradle, text lists otherwise
+    @Benchmark
+    public Dictionary constructBundled() {
+        return new Dictionary(false);
+    }
+
+    @Benchmark
+    public Dictionary constructFromList() {
+        return BenchData.dictionaryOf(words);
+    }
+
+    @Benchmark
+    public void isValidWordString(Blackhole bh) {
+        for (String w : words) bh.consume(dict.isValidWord(w));
+        bh.consume(dict.isValidWord("QQQQQ"));
+    }
+
+    @Benchmark
+    public void isValidWordBuffer(Blackhole bh) {
+        for (String w : words) {
+            buffer.setLength(0);
+            buffer.append(w);
+            bh.consume(dict.isValidWord(buffer));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wordle.model.FeedbackCode;
+import wordle.model.Stats;
+import wordle.model.WordleModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// EvaluateBenchmark - One guess scored against many secrets: Feedback[] path vs packed code path
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EvaluateBenchmark {
+    @Param({"500", "5757"})
+    public int dictSize;
+
+    private List<String> words;
+    private WordleModel model;
+    private final int[] scratch = new int[26];
+    private int[] codes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        words = BenchData.subset(dictSize);
+        model = new WordleModel(BenchData.FULL, new Stats());
+        codes = new int[words.size()];
+    }
+
+    @Benchmark
+    public void evaluateFeedbackArray(Blackhole bh) {
+        for (String secret : words) bh.consume(model.evaluate("CRANE", secret));
+    }
+
+    @Benchmark
+    public void evaluateCode(Blackhole bh) {
+        for (String secret : words) bh.consume(FeedbackCode.evaluate("CRANE", secret, scratch));
+    }
+
+    // Same work as one multi-board guess: the guess is decoded once for every secret
+    @Benchmark
+    public int[] evaluateAll() {
+        FeedbackCode.evaluateAll("CRANE", words, codes, scratch);
+        return codes;
+    }
+}
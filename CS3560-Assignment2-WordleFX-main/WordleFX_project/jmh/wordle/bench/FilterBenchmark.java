@@ -0,0 +1,46 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import wordle.model.Dictionary;
+import wordle.model.HintEngine;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// FilterBenchmark - Candidate filtering after 1-5 guesses: string scan vs letter-index bitsets
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FilterBenchmark {
+    @Param({"500", "2000", "5757"})
+    public int dictSize;
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int guesses;
+
+    private Dictionary dict;
+    private List<String> words;
+    private BenchData.History history;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        words = BenchData.subset(dictSize);
+        dict = BenchData.dictionaryOf(words);
+        dict.answerIndex();
+        history = new BenchData.History(words, guesses, 42);
+    }
+
+    @Benchmark
+    public List<String> scan() {
+        return HintEngine.filterCandidates(words, history.guesses, history.feedback);
+    }
+
+    @Benchmark
+    public BitSet letterIndex() {
+        return dict.answerIndex().filter(history.guesses, history.codes);
+    }
+}
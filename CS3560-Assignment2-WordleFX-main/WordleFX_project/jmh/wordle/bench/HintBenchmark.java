@@ -0,0 +1,50 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import wordle.model.Dictionary;
+import wordle.model.HintEngine;
+import wordle.model.PatternMatrix;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// HintBenchmark - Hint selection over the candidates left after a fixed guess history
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HintBenchmark {
+    @Param({"500", "2000", "5757"})
+    public int dictSize;
+
+    @Param({"0", "1", "2"})
+    public int guesses;
+
+    private List<String> candidates;
+    private PatternMatrix matrix;
+    private int[] candidateIdx;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<String> words = BenchData.subset(dictSize);
+        Dictionary dict = BenchData.dictionaryOf(words);
+        BenchData.History h = new BenchData.History(words, guesses, 42);
+        BitSet bits = dict.answerIndex().filter(h.guesses, h.codes);
+        candidates = dict.answerIndex().toWords(bits);
+        candidateIdx = bits.stream().toArray();
+        matrix = PatternMatrix.build(dict.allGuesses(), dict.allCandidates());
+    }
+
+    @Benchmark
+    public String heuristic() {
+        return HintEngine.bestHint(candidates);
+    }
+
+    @Benchmark
+    public String entropy() {
+        return HintEngine.bestEntropyHint(matrix, candidateIdx);
+    }
+}
@@ -0,0 +1,44 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import wordle.model.GameState;
+import wordle.model.Stats;
+import wordle.model.WordleModel;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// MultiBoardBenchmark - Six guesses played on every board of a 1-, 4- or 16-board game (divide by six per guess)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MultiBoardBenchmark {
+    private static final String[] GUESSES = { "SLATE", "CORNY", "DUMPY", "WHIFF", "BLOCK", "GUANO" };
+
+    @Param({"1", "4", "16"})
+    public int boards;
+
+    private WordleModel model;
+    private List<String> secrets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        model = new WordleModel(BenchData.FULL, new Stats());
+        model.getState().setMaxTurns(GameState.defaultTurns(GameState.WORD_LEN, boards));
+        secrets = BenchData.subset(boards);
+    }
+
+    @Setup(Level.Invocation)
+    public void newGame() {
+        model.newGame(secrets);
+    }
+
+    @Benchmark
+    public int sixGuesses() {
+        for (String g : GUESSES) model.submitGuess(g);
+        return model.remainingCount(boards - 1);
+    }
+}
@@ -0,0 +1,52 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import wordle.io.GameIO;
+import wordle.model.GameState;
+import wordle.model.Stats;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// PersistenceBenchmark - GameIO save + load round trip through a temp file
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PersistenceBenchmark {
+    @Param({"0", "3", "6"})
+    public int guesses;
+
+    private GameState state;
+    private Stats stats;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        BenchData.History h = new BenchData.History(BenchData.FULL.allCandidates(), guesses, 42);
+        state = new GameState(h.secret);
+        state.getGuesses().addAll(h.guesses);
+        state.getFeedbacks().addAll(h.feedback);
+        state.setTurn(guesses);
+        stats = new Stats();
+        stats.recordWin(4);
+        file = Files.createTempFile("wordle-bench", ".json");
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public GameState saveThenLoad() throws IOException {
+        GameIO.save(state, stats, file);
+        GameState loaded = new GameState("XXXXX");
+        GameIO.loadInto(loaded, new Stats(), file);
+        return loaded;
+    }
+}
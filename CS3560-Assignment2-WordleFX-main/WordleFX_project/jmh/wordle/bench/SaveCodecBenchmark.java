@@ -0,0 +1,69 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import wordle.io.BinarySave;
+import wordle.io.GameIO;
+import wordle.model.GameState;
+import wordle.model.Stats;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// SaveCodecBenchmark - In-memory encode/decode of one save, Gson JSON vs BinarySave (no disk, so only codec cost shows)
+// Encoded sizes are printed once per trial.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SaveCodecBenchmark {
+    @Param({"0", "3", "6"})
+    public int guesses;
+
+    private GameIO.SaveData data;
+    private String json;
+    private byte[] binary;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchData.History h = new BenchData.History(BenchData.FULL.allCandidates(), guesses, 42);
+        GameState state = new GameState(h.secret);
+        state.getGuesses().addAll(h.guesses);
+        state.getFeedbacks().addAll(h.feedback);
+        state.setTurn(guesses);
+        Stats stats = new Stats();
+        for (int i = 0; i < 250; i++) stats.recordWin(1 + i % 6);
+        stats.recordLoss();
+        data = GameIO.capture(state, stats);
+        data.statsJson = stats.toJson();
+
+        json = GameIO.GSON.toJson(data);
+        binary = BinarySave.encode(data);
+        System.out.printf("%n[guesses=%d] json %d bytes, binary %d bytes%n",
+                guesses, json.getBytes(StandardCharsets.UTF_8).length, binary.length);
+    }
+
+    @Benchmark
+    public String jsonEncode() {
+        return GameIO.GSON.toJson(data);
+    }
+
+    @Benchmark
+    public GameIO.SaveData jsonDecode() {
+        GameIO.SaveData d = GameIO.GSON.fromJson(json, GameIO.SaveData.class);
+        d.stats = Stats.fromJson(d.statsJson); // stats are nested JSON text in this format
+        return d;
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return BinarySave.encode(data);
+    }
+
+    @Benchmark
+    public GameIO.SaveData binaryDecode() throws IOException {
+        return BinarySave.decode(binary);
+    }
+}
@@ -0,0 +1,48 @@
+package wordle.bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import wordle.model.WordTrie;
+
+import java.util.concurrent.TimeUnit;
+
+// WordTrieBenchmark - Live typing feedback: the match count and first completions after each keystroke of two words
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WordTrieBenchmark {
+    private static final String[] TYPED = { "CRANE", "SLATE" };
+
+    private WordTrie trie;
+    private final String[] out = new String[3];
+
+    @Setup(Level.Trial)
+    public void setup() {
+        trie = BenchData.FULL.trie();
+    }
+
+    // Re-walk the whole buffer from the root on every keystroke (what the controller does)
+    @Benchmark
+    public void findPerKeystroke(Blackhole bh) {
+        for (String w : TYPED)
+            for (int k = 1; k <= w.length(); k++) {
+                int node = trie.find(w.subSequence(0, k));
+                bh.consume(trie.count(node) + trie.completions(node, out));
+            }
+    }
+
+    // Step one letter from the previous keystroke's node
+    @Benchmark
+    public void stepPerKeystroke(Blackhole bh) {
+        for (String w : TYPED) {
+            int node = WordTrie.ROOT;
+            for (int k = 0; k < w.length(); k++) {
+                node = trie.step(node, w.charAt(k));
+                bh.consume(trie.count(node) + trie.completions(node, out));
+            }
+        }
+    }
+}
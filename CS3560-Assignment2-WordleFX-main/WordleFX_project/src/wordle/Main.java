@@ -4,20 +4,48 @@ import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 import wordle.control.GameController;
-import wordle.model.Dictionary;
+import wordle.io.AutoSaver;
+import wordle.io.GameIO;
+import wordle.io.HistoryLog;
+import wordle.io.WordListWatcher;
+import wordle.model.GameStatus;
+import wordle.model.Lexicon;
 import wordle.model.Stats;
 import wordle.model.WordleModel;
 import wordle.view.GameView;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class Main extends Application {
+    private HistoryLog history;
+    private AutoSaver autoSaver;
+    private WordListWatcher wordLists; // --watch (kiosk mode): new games pick up edited word lists
+
     @Override
     public void start(Stage stage) {
-        Dictionary dict = new Dictionary(false);
-        Stats stats = new Stats();
-        WordleModel model = new WordleModel(dict, stats);
+        // Word lists are loaded per length, when a game of that length first starts
+        Lexicon lexicon = new Lexicon(false);
+        // Lifetime stats come from the game history; without it, stats only last for this session
+        try {
+            history = HistoryLog.open(HistoryLog.defaultDir());
+        } catch (IOException e) {
+            System.err.println("history: not available (" + e.getMessage() + ")");
+        }
+        if (getParameters().getRaw().contains("--watch")) {
+            try {
+                wordLists = new WordListWatcher(lexicon, Paths.get("assets", "words")).start();
+            } catch (IOException e) {
+                System.err.println("word lists: not watching (" + e.getMessage() + ")");
+            }
+        }
+        Stats stats = history != null ? history.stats() : new Stats();
+        WordleModel model = new WordleModel(lexicon, stats);
         GameView view = new GameView();
 
-        new GameController(model, view, stage);
+        new GameController(model, view, stage, history);
 
         Scene scene = new Scene(view.getRoot(), 650, 1200);
         stage.setTitle("WordleFX");
@@ -27,9 +55,32 @@ public class Main extends Application {
         stage.setResizable(false);
         stage.show();
 
-        model.newGame();
+        // Pick up an unfinished game from the last run, then keep saving in the background
+        Path autosave = HistoryLog.defaultDir().resolve(AutoSaver.FILE_NAME);
+        if (!resume(model, autosave)) model.newGame();
+        autoSaver = new AutoSaver(model, autosave);
         view.requestFocusForInput();
     }
 
+    // Load the autosave if it holds a game still in progress
+    private boolean resume(WordleModel model, Path file) {
+        if (!Files.exists(file)) return false;
+        try {
+            if (history != null) GameIO.loadGameInto(model, file);
+            else GameIO.loadInto(model, file);
+            return model.getState().getStatus() == GameStatus.IN_PROGRESS;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("autosave: could not resume (" + e.getMessage() + ")");
+            return false;
+        }
+    }
+
+    @Override
+    public void stop() throws Exception {
+        if (autoSaver != null) autoSaver.close();
+        if (wordLists != null) wordLists.close();
+        if (history != null) history.close();
+    }
+
     public static void main(String[] args) { launch(args); }
 }
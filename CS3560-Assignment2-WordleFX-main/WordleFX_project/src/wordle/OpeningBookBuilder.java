@@ -0,0 +1,35 @@
+package wordle;
+
+import wordle.model.Dictionary;
+import wordle.model.HintMode;
+import wordle.model.OpeningBook;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+// OpeningBookBuilder - Generates the opening book resource from the bundled word lists (run by gradle openingBook)
+// Usage: OpeningBookBuilder --out <file>
+public class OpeningBookBuilder {
+    public static void main(String[] args) throws Exception {
+        Path out = Paths.get(OpeningBook.RESOURCE);
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--out" -> out = Paths.get(args[++i]);
+                default -> { System.err.println("unknown option " + args[i]); System.exit(2); }
+            }
+        }
+
+        long t0 = System.nanoTime();
+        Dictionary dict = new Dictionary(false);
+        OpeningBook book = OpeningBook.build(dict, List.of(HintMode.values()), OpeningBook.POPULAR_OPENERS);
+        if (out.toAbsolutePath().getParent() != null) Files.createDirectories(out.toAbsolutePath().getParent());
+        try (OutputStream os = Files.newOutputStream(out)) {
+            book.write(os);
+        }
+        System.out.printf("Opening book: %d hints for word lists %016x in %.1fs -> %s%n",
+                book.size(), book.fingerprint(), (System.nanoTime() - t0) / 1e9, out);
+    }
+}
@@ -0,0 +1,138 @@
+package wordle;
+
+import wordle.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+// Simulator - Headless grader: plays every answer with a hint strategy across all cores and reports the results
+// Usage: Simulator [--strategy heuristic|entropy|<class implementing HintStrategy>] [--threads N] [--limit N] [--hard]
+public class Simulator {
+
+    // Result of one batch of games (merged after all workers finish)
+    public static final class Report {
+        public final int[] dist = new int[GameState.MAX_TURNS]; // wins by number of guesses
+        public int played, failures;
+        public int rejected; // failures where the game refused a suggestion (a strategy bug, not a lost game)
+        public long totalGuesses; // over wins only
+        public double seconds;
+
+        void merge(Report o) {
+            for (int i = 0; i < dist.length; i++) dist[i] += o.dist[i];
+            played += o.played;
+            failures += o.failures;
+            rejected += o.rejected;
+            totalGuesses += o.totalGuesses;
+        }
+
+        public double averageGuesses() {
+            int wins = played - failures;
+            return wins == 0 ? 0 : totalGuesses / (double) wins;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format(Locale.ROOT, "Games: %d  Failures: %d  Average guesses (wins): %.4f%n",
+                    played, failures, averageGuesses()));
+            if (rejected > 0) sb.append("Rejected suggestions: ").append(rejected).append("\n");
+            sb.append("Guess Distribution:\n");
+            for (int i = 0; i < dist.length; i++) sb.append(i + 1).append(": ").append(dist[i]).append("\n");
+            sb.append(String.format(Locale.ROOT, "Time: %.2fs  (%.1f games/s)%n", seconds, played / Math.max(seconds, 1e-9)));
+            return sb.toString();
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String strategyName = "heuristic";
+        int threads = Runtime.getRuntime().availableProcessors();
+        int limit = Integer.MAX_VALUE;
+        boolean hard = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--strategy" -> strategyName = args[++i];
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--limit" -> limit = Integer.parseInt(args[++i]);
+                case "--hard" -> hard = true;
+                default -> { System.err.println("unknown option " + args[i]); System.exit(2); }
+            }
+        }
+
+        Dictionary dict = new Dictionary(false);
+        HintStrategy strategy = strategyFor(strategyName);
+        List<String> answers = dict.allCandidates();
+        answers = answers.subList(0, Math.min(limit, answers.size()));
+
+        System.out.println("Strategy: " + strategyName + "  Threads: " + threads + (hard ? "  (Hard)" : ""));
+        Report r = run(dict, strategy, answers, threads, hard);
+        System.out.print(r);
+    }
+
+    // Resolve a built-in mode name or a HintStrategy class name
+    static HintStrategy strategyFor(String name) throws ReflectiveOperationException {
+        for (HintMode m : HintMode.values())
+            if (m.name().equalsIgnoreCase(name)) return m;
+        return (HintStrategy) Class.forName(name).getDeclaredConstructor().newInstance();
+    }
+
+    // Play each answer once with the strategy; every game is independent, so results do not depend on thread count
+    public static Report run(Dictionary dict, HintStrategy strategy, List<String> answers, int threads, boolean hard)
+            throws Exception {
+        // Every game starts from the same empty state, so the opening guess is computed once and shared
+        WordleModel probe = new WordleModel(dict, new Stats());
+        probe.setHardMode(hard);
+        String opener = probe.hint(strategy);
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List<Future<Report>> parts = new ArrayList<>();
+            int n = Math.max(1, threads);
+            for (int t = 0; t < n; t++) {
+                final int first = t;
+                parts.add(pool.submit(() -> {
+                    Report part = new Report();
+                    WordleModel model = new WordleModel(dict, new Stats());
+                    model.setHardMode(hard);
+                    // Strided split keeps easy and hard answers spread over workers
+                    for (int i = first; i < answers.size(); i += n) play(model, strategy, opener, answers.get(i), part);
+                    return part;
+                }));
+            }
+            Report total = new Report();
+            for (Future<Report> f : parts) total.merge(f.get());
+            total.seconds = (System.nanoTime() - start) / 1e9;
+            return total;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Play one game to completion; an unusable suggestion counts as a failure
+    private static void play(WordleModel model, HintStrategy strategy, String opener, String secret, Report out) {
+        model.newGame(secret);
+        GameState s = model.getState();
+        out.played++;
+        try {
+            String guess = opener;
+            while (s.getStatus() == GameStatus.IN_PROGRESS) {
+                model.submitGuess(guess);
+                if (s.getStatus() == GameStatus.IN_PROGRESS) guess = model.hint(strategy);
+            }
+        } catch (IllegalArgumentException e) {
+            out.failures++;
+            out.rejected++;
+            return;
+        }
+        if (s.getStatus() == GameStatus.WON) {
+            out.dist[s.getGuesses().size() - 1]++;
+            out.totalGuesses += s.getGuesses().size();
+        } else {
+            out.failures++;
+        }
+    }
+}
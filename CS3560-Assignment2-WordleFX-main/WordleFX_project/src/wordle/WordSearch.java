@@ -0,0 +1,40 @@
+package wordle;
+
+import wordle.model.Dictionary;
+
+import java.util.List;
+
+// WordSearch - Command-line word finder for puzzle constructors, backed by Dictionary's letter index
+// Usage: WordSearch <pattern like C?A?E> [-i letters-to-include] [-x letters-to-exclude] [-a (answers only)]
+public class WordSearch {
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("usage: WordSearch <pattern, ? = any letter> [-i include] [-x exclude] [-a]");
+            System.exit(2);
+        }
+        String pattern = args[0], include = null, exclude = null;
+        boolean answersOnly = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "-i" -> include = args[++i];
+                case "-x" -> exclude = args[++i];
+                case "-a" -> answersOnly = true;
+                default -> { System.err.println("unknown option " + args[i]); System.exit(2); }
+            }
+        }
+
+        Dictionary dict = new Dictionary(false);
+        List<String> hits;
+        try {
+            hits = answersOnly
+                    ? dict.answerIndex().queryWords(pattern, include, exclude)
+                    : dict.query(pattern, include, exclude);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+        hits.forEach(System.out::println);
+        System.err.println(hits.size() + " match(es)");
+    }
+}
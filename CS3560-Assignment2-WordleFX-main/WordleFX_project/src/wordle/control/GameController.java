@@ -1,12 +1,17 @@
 package wordle.control;
 
+import javafx.application.Platform;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import wordle.io.BinarySave;
 import wordle.io.GameIO;
+import wordle.io.HistoryLog;
 import wordle.model.*;
+import wordle.util.ModelEvent;
+import wordle.util.ModelListener;
 import wordle.view.GameView;
 
 import java.io.File;
@@ -17,16 +22,42 @@ public class GameController {
     private final GameView view;
     private final Stage stage;
     private final StringBuilder buffer = new StringBuilder();
+    private final String[] suggestions = new String[3]; // completions of the typed prefix, reused per keystroke
+    private final HintService hints;
+    private final HistoryLog history; // null when history is not kept
+
 
     public GameController(WordleModel model, GameView view, Stage stage) {
+        this(model, view, stage, null);
+    }
+
+    // With a HistoryLog, every finished game is appended to it (model stats should be history.stats())
+    public GameController(WordleModel model, GameView view, Stage stage, HistoryLog history) {
         this.model = model;
         this.view = view;
         this.stage = stage;
+        this.history = history;
 
-        model.addListener(() -> {
+        // Model events are merged and delivered once per FX pulse, so a burst of updates renders once
+        // and a modal prompt never runs inside submitGuess/newGame
+        model.setDispatchExecutor(Platform::runLater);
+        // Hints are computed off the FX thread; the next one starts as soon as a guess lands
+        hints = new HintService(model);
+        hints.setSpeculative(true);
+        model.addListener(ModelListener.of(ev -> {
+            if (ev.has(ModelEvent.Type.GUESS_ADDED) || ev.has(ModelEvent.Type.NEW_GAME) || ev.has(ModelEvent.Type.LOADED))
+                view.clearHint(); // an old hint no longer applies
+            view.setRemaining(model.remainingCount());
+            // The legal-guess set is only built once hard mode is on, then narrowed per guess
+            view.setLegalGuesses(model.getState().isHardMode() ? model.legalGuessCount() : -1);
+            view.lengthBox.setValue(model.getState().getWordLength());
+            view.boardsBox.setValue(model.getState().getBoardCount());
             view.render(model.getState());
-            maybeShowGameOverPrompt();
-        });
+            if (ev.has(ModelEvent.Type.GAME_OVER)) {
+                if (history != null) history.appendLater(HistoryLog.Entry.of(model));
+                maybeShowGameOverPrompt();
+            }
+        }));
 
         wireUI();
     }
@@ -55,11 +86,46 @@ public class GameController {
         view.getKeyboard().enterBtn.setOnAction(ev -> { submit(); view.requestFocusForInput(); });
         view.getKeyboard().backBtn.setOnAction(ev -> { backspace(); view.requestFocusForInput(); });
 
+        // Word length picker: only lengths that have a word list; hidden when there is just one
+        view.lengthBox.getItems().setAll(model.getLexicon().availableLengths());
+        view.lengthBox.setValue(model.getState().getWordLength());
+        boolean choice = view.lengthBox.getItems().size() > 1;
+        view.lengthBox.setVisible(choice);
+        view.lengthBox.setManaged(choice);
+        view.lengthBox.setOnAction(ev -> {
+            Integer len = view.lengthBox.getValue();
+            if (len != null && len != model.getState().getWordLength()) onNew();
+            view.requestFocusForInput();
+        });
+
+        // Board count picker: classic, Dordle, Quordle, Octordle, Sedecordle
+        view.boardsBox.getItems().setAll(1, 2, 4, 8, 16);
+        view.boardsBox.setValue(model.getState().getBoardCount());
+        view.boardsBox.setOnAction(ev -> {
+            Integer boards = view.boardsBox.getValue();
+            if (boards != null && boards != model.getState().getBoardCount()) onNew();
+            view.requestFocusForInput();
+        });
+
+        // Absurdle is a one-board game: picking it resets the board count
+        view.absurdle.setOnAction(ev -> {
+            if (view.absurdle.isSelected() != model.getState().isAdversarial()) {
+                if (view.absurdle.isSelected()) view.boardsBox.setValue(1);
+                onNew();
+            }
+            view.requestFocusForInput();
+        });
+
         // Top bar buttons
         view.newBtn.setOnAction(ev -> { onNew(); view.requestFocusForInput(); });
         view.playAgainBtn.setOnAction(ev -> { onNew(); view.requestFocusForInput(); });
         view.hardMode.setOnAction(ev -> { model.setHardMode(view.hardMode.isSelected()); view.requestFocusForInput(); });
-        view.hintBtn.setOnAction(ev -> { view.setHint(model.hint()); view.requestFocusForInput(); });
+        view.smartHint.setOnAction(ev -> {
+            model.setHintMode(view.smartHint.isSelected() ? HintMode.ENTROPY : HintMode.HEURISTIC);
+            hints.cancel();
+            view.requestFocusForInput();
+        });
+        view.hintBtn.setOnAction(ev -> { onHint(); view.requestFocusForInput(); });
         view.saveBtn.setOnAction(ev -> { onSave(); view.requestFocusForInput(); });
         view.loadBtn.setOnAction(ev -> { onLoad(); view.requestFocusForInput(); });
         view.statsBtn.setOnAction(ev -> { showStats(); view.requestFocusForInput(); });
@@ -72,43 +138,88 @@ public class GameController {
                     ButtonType.OK, ButtonType.CANCEL);
             confirm.setHeaderText("New Game");
             Optional<ButtonType> result = confirm.showAndWait();
-            if (result.isEmpty() || result.get() != ButtonType.OK) return;
+            if (result.isEmpty() || result.get() != ButtonType.OK) {
+                view.lengthBox.setValue(model.getState().getWordLength());
+                view.boardsBox.setValue(model.getState().getBoardCount());
+                view.absurdle.setSelected(model.getState().isAdversarial());
+                return;
+            }
+        }
+        GameState st = model.getState();
+        int len = view.lengthBox.getValue() != null ? view.lengthBox.getValue() : st.getWordLength();
+        int boards = view.boardsBox.getValue() != null ? view.boardsBox.getValue() : st.getBoardCount();
+        boolean absurdle = view.absurdle.isSelected() && boards == 1;
+        try {
+            // Longer words get one more turn per extra letter (4 -> 5, 5 -> 6, 6 -> 7, ...), and each extra board one more
+            if (absurdle) model.newAdversarialGame(len, GameState.ADVERSARIAL_TURNS);
+            else if (len == st.getWordLength() && boards == st.getBoardCount() && !st.isAdversarial()) model.newGame();
+            else model.newGame(len, GameState.defaultTurns(len, boards), boards);
+        } catch (IllegalArgumentException ex) {
+            view.lengthBox.setValue(model.getState().getWordLength());
+            view.boardsBox.setValue(model.getState().getBoardCount());
+            view.absurdle.setSelected(model.getState().isAdversarial());
+            alert("New Game", ex.getMessage());
+            return;
         }
-        model.newGame();
         buffer.setLength(0);
         view.setCurrentBuffer("");
+        updatePrefix();
+    }
+
+    private void onHint() {
+        var pending = hints.request();
+        if (!pending.isDone()) view.setHintPending();
+        pending.whenComplete((hint, err) -> Platform.runLater(() -> {
+            if (!hints.isCurrent(pending)) return; // the game moved on while it was computing
+            if (err == null) view.setHint(hint);
+            else if (!HintService.isCancellation(err)) view.setHint("unavailable (" + err.getMessage() + ")");
+        }));
+    }
+
+    // Live feedback for the typed prefix: one trie walk and a copy into suggestions, nothing allocated
+    private void updatePrefix() {
+        Dictionary d = model.getDictionary();
+        if (d.isPermissive()) { view.setPrefix(-1, false, suggestions, 0); return; } // any word goes: nothing to say
+        WordTrie trie = d.trie();
+        int node = trie.find(buffer);
+        view.setPrefix(trie.count(node), trie.isWord(node), suggestions, trie.completions(node, suggestions));
     }
 
     private void append(char ch){
-        if(buffer.length() < GameState.WORD_LEN){
+        if(buffer.length() < model.getState().getWordLength()){
             buffer.append(ch);
-            view.setCurrentBuffer(buffer.toString());
-            view.render(model.getState());
+            view.setCurrentBuffer(buffer);
+            updatePrefix();
+            view.renderTyping();
         }
     }
 
     private void backspace(){
         if(buffer.length() > 0){
             buffer.deleteCharAt(buffer.length()-1);
-            view.setCurrentBuffer(buffer.toString());
-            view.render(model.getState());
+            view.setCurrentBuffer(buffer);
+            updatePrefix();
+            view.renderTyping();
         }
     }
 
     private void submit(){
-        if (buffer.length() != GameState.WORD_LEN) return;
-        String guess = buffer.toString();
+        if (buffer.length() != model.getState().getWordLength()) return;
         try {
-            model.submitGuess(guess);
+            if (!model.isValid(buffer))
+                throw new IllegalArgumentException("Word must be a valid " + model.getState().getWordLength() + "-letter word.");
+            model.submitGuess(buffer.toString());
             buffer.setLength(0);
             view.setCurrentBuffer("");
+            updatePrefix();
             view.requestFocusForInput();
         } catch (IllegalArgumentException ex) {
             // Show why it failed, then reset input so the user can retype immediately
             alert("Invalid Guess", ex.getMessage());
             buffer.setLength(0);
             view.setCurrentBuffer("");
-            view.render(model.getState());
+            updatePrefix();
+            view.renderTyping();
             view.requestFocusForInput();
         }
     }
@@ -119,6 +230,7 @@ public class GameController {
             FileChooser fc = new FileChooser();
             fc.setTitle("Save Wordle Game");
             fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON files", "*.json"));
+            fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("Compact saves", "*" + BinarySave.EXTENSION));
             fc.setInitialFileName("wordle-save.json");
             File file = fc.showSaveDialog(stage);
             if (file == null) return;
@@ -133,11 +245,11 @@ public class GameController {
         try {
             FileChooser fc = new FileChooser();
             fc.setTitle("Load Wordle Game");
-            fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("JSON files", "*.json"));
+            fc.getExtensionFilters().add(new FileChooser.ExtensionFilter("Saved games", "*.json", "*" + BinarySave.EXTENSION));
             File file = fc.showOpenDialog(stage);
             if (file == null) return;
-            GameIO.loadInto(model.getState(), model.getStats(), file.toPath());
-            model.recomputeStatusAfterLoad();
+            if (history != null) GameIO.loadGameInto(model, file.toPath());
+            else GameIO.loadInto(model, file.toPath());
             view.render(model.getState());
             alert("Loaded", "Game loaded from:\n" + file.getAbsolutePath());
         } catch (Exception ex) {
@@ -163,7 +275,9 @@ public class GameController {
         String title = (st == GameStatus.WON) ? "You Won!" : "Round Over";
         String msg   = (st == GameStatus.WON)
                 ? "Great job! Play another round?"
-                : "The word was " + model.getState().getSecret() + ". Try again?";
+                : model.getState().isAdversarial() ? "It could still have been " + model.getState().getSecret() + ". Try again?"
+                : model.getState().getBoardCount() == 1 ? "The word was " + model.getState().getSecret() + ". Try again?"
+                : "The words were " + String.join(", ", model.getState().getSecrets()) + ". Try again?";
 
         Alert a = new Alert(Alert.AlertType.CONFIRMATION, msg, ButtonType.YES, ButtonType.NO);
         a.setHeaderText(title);
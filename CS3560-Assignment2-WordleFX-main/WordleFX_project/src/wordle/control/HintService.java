@@ -0,0 +1,109 @@
+package wordle.control;
+
+import wordle.model.GameStatus;
+import wordle.model.HintStrategy;
+import wordle.model.WordleModel;
+import wordle.util.ModelEvent;
+import wordle.util.ModelListener;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// HintService - Computes hints on a background thread so the UI thread never waits on the solver
+//
+// request() and the model listener must be called on the thread that owns the model (the FX thread);
+// the strategy runs on a snapshot of the game, so the player can keep typing meanwhile. Any new guess,
+// new game, load, or mode change makes the pending hint stale: its future is cancelled and a late result is dropped.
+// Staleness is judged by the model's change count, not by the event alone: with coalesced events a hint can be asked
+// for after a guess but before its event arrives, and must then be computed for the new position.
+public class HintService {
+    private final WordleModel model;
+    private final ExecutorService executor;
+    // Bumped whenever the game changes; a task only completes if its generation is still current
+    private volatile long generation;
+    // Hint for the current generation (running or done), with the strategy it was computed for
+    private CompletableFuture<String> current;
+    private HintStrategy currentStrategy;
+    private long currentChange; // model.changeCount() the current hint was requested at
+    // Start computing the next hint as soon as a guess lands, before it is asked for
+    private boolean speculative;
+
+    public HintService(WordleModel model) {
+        this.model = model;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "wordle-hint");
+            t.setDaemon(true);
+            return t;
+        });
+        model.addListener(ModelListener.of(this::onModelChanged));
+    }
+
+    public void setSpeculative(boolean v) { speculative = v; }
+    public boolean isSpeculative() { return speculative; }
+
+    // Hint for the current position with the model's hint mode; reuses a running or finished computation
+    public CompletableFuture<String> request() {
+        return request(model.getHintMode());
+    }
+
+    public CompletableFuture<String> request(HintStrategy strategy) {
+        if (current != null && strategy == currentStrategy && !current.isCancelled() && currentChange == model.changeCount())
+            return current;
+        cancel();
+        long gen = generation;
+        WordleModel snap = model.snapshot();
+        CompletableFuture<String> f = new CompletableFuture<>();
+        executor.execute(() -> {
+            // Skip work that went stale while it was queued
+            if (gen != generation || f.isDone()) { f.cancel(false); return; }
+            try {
+                String hint = snap.hint(strategy);
+                if (gen == generation) f.complete(hint);
+                else f.cancel(false);
+            } catch (RuntimeException e) {
+                f.completeExceptionally(e);
+            }
+        });
+        current = f;
+        currentStrategy = strategy;
+        currentChange = model.changeCount();
+        return f;
+    }
+
+    // Drop the pending hint; its future completes with a CancellationException
+    public void cancel() {
+        generation++;
+        if (current != null) current.cancel(false);
+        current = null;
+        currentStrategy = null;
+    }
+
+    // Whether a future from request() still belongs to the current position (check before showing its result)
+    public boolean isCurrent(CompletableFuture<String> f) {
+        return f != null && f == current && currentChange == model.changeCount();
+    }
+
+    // True if the failure only means the hint was superseded
+    public static boolean isCancellation(Throwable t) {
+        while (t != null) {
+            if (t instanceof CancellationException) return true;
+            t = t.getCause();
+        }
+        return false;
+    }
+
+    public void shutdown() {
+        cancel();
+        executor.shutdownNow();
+    }
+
+    private void onModelChanged(ModelEvent ev) {
+        if (!ev.has(ModelEvent.Type.GUESS_ADDED) && !ev.has(ModelEvent.Type.NEW_GAME)
+                && !ev.has(ModelEvent.Type.LOADED) && !ev.has(ModelEvent.Type.MODE_CHANGED)) return;
+        if (current != null && currentChange == model.changeCount()) return; // already asked for since the change
+        cancel();
+        if (speculative && model.getState().getStatus() == GameStatus.IN_PROGRESS) request();
+    }
+}
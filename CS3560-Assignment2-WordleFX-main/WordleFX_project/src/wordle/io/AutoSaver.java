@@ -0,0 +1,92 @@
+package wordle.io;
+
+import wordle.model.WordleModel;
+import wordle.util.ModelListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// AutoSaver - Saves the game in the background shortly after it changes
+//
+// Every model event captures a copy of the game (cheap, on the thread that delivers events) and (re)starts a
+// short timer; when the model has been quiet for the debounce delay, the latest copy is written on the saver
+// thread with GameIO.write (temp file + atomic rename). A burst of changes costs one write, and the caller
+// never touches the disk.
+public class AutoSaver implements AutoCloseable {
+    public static final String FILE_NAME = "autosave.json";
+    public static final long DEFAULT_DELAY_MILLIS = 500;
+
+    private final WordleModel model;
+    private final Path file;
+    private final long delayMillis;
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "wordle-autosave");
+        t.setDaemon(true);
+        return t;
+    });
+    private final ModelListener listener = ModelListener.of(ev -> changed());
+    // Newest unsaved copy of the game (null once written)
+    private final AtomicReference<GameIO.SaveData> latest = new AtomicReference<>();
+    private ScheduledFuture<?> pending;
+    private final Object writeLock = new Object();
+    private volatile long saves;
+
+    public AutoSaver(WordleModel model, Path file, long delayMillis) {
+        this.model = model;
+        this.file = file;
+        this.delayMillis = delayMillis;
+        model.addListener(listener);
+    }
+
+    public AutoSaver(WordleModel model, Path file) {
+        this(model, file, DEFAULT_DELAY_MILLIS);
+    }
+
+    public Path getFile() { return file; }
+
+    // Number of files written so far
+    public long saveCount() { return saves; }
+
+    // Capture now, write once things settle
+    public synchronized void changed() {
+        latest.set(GameIO.capture(model.getState(), model.getStats()));
+        if (pending != null) pending.cancel(false);
+        if (!saver.isShutdown()) pending = saver.schedule(this::writeLatest, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Write the newest capture right away (blocks the caller; for shutdown and tests)
+    public void flush() {
+        synchronized (this) {
+            if (pending != null) pending.cancel(false);
+            pending = null;
+        }
+        writeLatest();
+    }
+
+    // Stop listening, write anything unsaved, and stop the saver thread
+    @Override
+    public void close() {
+        model.removeListener(listener);
+        flush();
+        saver.shutdown();
+    }
+
+    // Runs on the saver thread (or in flush); writes are serialized so an older copy never lands last
+    private void writeLatest() {
+        synchronized (writeLock) {
+            GameIO.SaveData d = latest.getAndSet(null);
+            if (d == null) return;
+            try {
+                GameIO.write(d, file);
+                saves++;
+            } catch (IOException e) {
+                System.err.println("autosave: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package wordle.io;
+
+import wordle.model.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+// BinarySave - Compact save codec, an alternative to GameIO's JSON for archiving many games
+//
+// Layout (version 1), all integers unsigned LEB128 varints unless noted:
+//   "WSAV"  version:u8  flags:u8 (bit 0 = hard mode, bits 1-7 = turn limit, 0 = default)  wordLen:u8
+//   secret (WordPack)  [version 2+: boardCount, (boardCount - 1) x secret (WordPack)]  [version 3: mode (bit 0 = adversarial)]
+//   turn  guessCount
+//   guessCount x { letters (WordPack), board 0's feedback (2 bits per position, position 0 lowest, FeedbackCode digits) }
+//   played  wins  currentStreak  bestStreak  distLen  distLen x count
+//   crc32:u32 big-endian over every byte before it
+// A two-guess save is 40 bytes; the same save as JSON is about 260. Classic games are written as version 1,
+// multi-board games as version 2 and adversarial games as version 3; the other boards' feedback is replayed from
+// the guesses on load.
+public final class BinarySave {
+    public static final byte[] MAGIC = { 'W', 'S', 'A', 'V' };
+    public static final int VERSION = 3;
+    // Preferred extension; GameIO also sniffs the magic, so the name is only a hint
+    public static final String EXTENSION = ".wsav";
+    private static final Feedback[] BY_DIGIT = { Feedback.GRAY, Feedback.YELLOW, Feedback.GREEN };
+
+    private BinarySave() {}
+
+    // True if the bytes start with the binary save magic
+    public static boolean sniff(byte[] head) {
+        if (head.length < MAGIC.length) return false;
+        for (int i = 0; i < MAGIC.length; i++) if (head[i] != MAGIC[i]) return false;
+        return true;
+    }
+
+    public static byte[] encode(GameIO.SaveData d) {
+        Stats st = d.stats != null ? d.stats : Stats.fromJson(d.statsJson);
+        int len = d.secret.length();
+        long secret = WordPack.pack(d.secret);
+        if (secret < 0) throw new IllegalArgumentException("Secret does not fit a binary save: " + d.secret);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 + d.guesses.size() * 6);
+        boolean multi = d.secrets != null && d.secrets.size() > 1;
+        int version = d.adversarial ? 3 : multi ? 2 : 1;
+        out.writeBytes(MAGIC);
+        out.write(version);
+        if (d.maxTurns > 127) throw new IllegalArgumentException("Turn limit does not fit a binary save: " + d.maxTurns);
+        out.write((d.hardMode ? 1 : 0) | Math.max(d.maxTurns, 0) << 1);
+        out.write(len);
+        varint(out, secret);
+        if (version >= 2) {
+            varint(out, multi ? d.secrets.size() : 1);
+            if (multi) for (String s : d.secrets.subList(1, d.secrets.size())) {
+                long p = s.length() == len ? WordPack.pack(s) : -1;
+                if (p < 0) throw new IllegalArgumentException("Secret does not fit a binary save: " + s);
+                varint(out, p);
+            }
+        }
+        if (version >= 3) varint(out, d.adversarial ? 1 : 0);
+        varint(out, d.turn);
+        varint(out, d.guesses.size());
+        for (int k = 0; k < d.guesses.size(); k++) {
+            String g = d.guesses.get(k);
+            long packed = g.length() == len ? WordPack.pack(g) : -1;
+            if (packed < 0) throw new IllegalArgumentException("Guess does not fit a binary save: " + g);
+            Feedback[] fb = d.feedback.get(k);
+            int bits = 0;
+            for (int i = len - 1; i >= 0; i--) bits = (bits << 2) | FeedbackCode.of(fb[i]);
+            varint(out, packed);
+            varint(out, bits);
+        }
+        synchronized (st) {
+            varint(out, st.played);
+            varint(out, st.wins);
+            varint(out, st.currentStreak);
+            varint(out, st.bestStreak);
+            varint(out, st.dist.length);
+            for (int c : st.dist) varint(out, c);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(out.toByteArray());
+        long v = crc.getValue();
+        out.write((int) (v >>> 24));
+        out.write((int) (v >>> 16));
+        out.write((int) (v >>> 8));
+        out.write((int) v);
+        return out.toByteArray();
+    }
+
+    public static GameIO.SaveData decode(byte[] bytes) throws IOException {
+        if (!sniff(bytes) || bytes.length < MAGIC.length + 3 + 4) throw new IOException("Not a WordleFX binary save");
+        int body = bytes.length - 4;
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, body);
+        if ((int) crc.getValue() != ByteBuffer.wrap(bytes, body, 4).getInt()) throw new IOException("Binary save is damaged (checksum mismatch)");
+
+        ByteBuffer in = ByteBuffer.wrap(bytes, MAGIC.length, body - MAGIC.length);
+        try {
+            int version = in.get() & 0xFF;
+            if (version < 1 || version > VERSION) throw new IOException("Unsupported binary save version " + version);
+            GameIO.SaveData d = new GameIO.SaveData();
+            int flags = in.get() & 0xFF;
+            d.hardMode = (flags & 1) != 0;
+            d.maxTurns = flags >>> 1;
+            int len = in.get() & 0xFF;
+            if (len < 1 || len > WordPack.MAX_LEN) throw new IOException("Bad word length " + len);
+            d.secret = WordPack.unpack(varlong(in), len);
+            if (version >= 2) {
+                int boards = varint(in);
+                if (boards < 1 || boards > GameState.MAX_BOARDS || boards - 1 > in.remaining()) throw new IOException("Bad board count " + boards);
+                d.secrets = new ArrayList<>(boards);
+                d.secrets.add(d.secret);
+                for (int b = 1; b < boards; b++) d.secrets.add(WordPack.unpack(varlong(in), len));
+            }
+            if (version >= 3) d.adversarial = (varint(in) & 1) != 0;
+            d.turn = varint(in);
+            int n = count(in, 2); // letters and feedback per guess
+            d.guesses = new ArrayList<>(n);
+            d.feedback = new ArrayList<>(n);
+            for (int k = 0; k < n; k++) {
+                d.guesses.add(WordPack.unpack(varlong(in), len));
+                int bits = varint(in);
+                Feedback[] fb = new Feedback[len];
+                for (int i = 0; i < len; i++, bits >>>= 2) {
+                    int digit = bits & 3;
+                    if (digit == 3) throw new IOException("Bad feedback in binary save");
+                    fb[i] = BY_DIGIT[digit];
+                }
+                d.feedback.add(fb);
+            }
+            Stats st = new Stats();
+            st.played = varint(in);
+            st.wins = varint(in);
+            st.currentStreak = varint(in);
+            st.bestStreak = varint(in);
+            int distLen = count(in, 1);
+            if (distLen > 64) throw new IOException("Bad stats in binary save");
+            st.dist = new int[distLen];
+            for (int i = 0; i < distLen; i++) st.dist[i] = varint(in);
+            d.stats = st;
+            return d;
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary save is truncated");
+        }
+    }
+
+    // A count read before allocating for it: it cannot exceed the bytes left, at least bytesEach per item
+    private static int count(ByteBuffer in, int bytesEach) throws IOException {
+        int n = varint(in);
+        if (n < 0 || n > in.remaining() / bytesEach) throw new IOException("Bad count " + n + " in binary save");
+        return n;
+    }
+
+    private static void varint(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) (v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static int varint(ByteBuffer in) throws IOException {
+        int v = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get() & 0xFF;
+            v |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("Bad varint in binary save");
+    }
+
+    private static long varlong(ByteBuffer in) throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.get() & 0xFF;
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return v;
+        }
+        throw new IOException("Bad varint in binary save");
+    }
+}
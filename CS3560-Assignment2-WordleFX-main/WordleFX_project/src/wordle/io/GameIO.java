@@ -1,9 +1,39 @@
-
-package wordle.io; import com.google.gson.Gson; import wordle.model.*; import java.io.IOException; import java.nio.file.*; import java.util.*;
+package wordle.io; import com.google.gson.Gson; import com.google.gson.stream.JsonWriter; import wordle.model.*; import java.io.*; import java.nio.channels.Channels; import java.nio.channels.FileChannel; import java.nio.charset.StandardCharsets; import java.nio.file.*; import java.util.*;
 public class GameIO {
-    public static class SaveData { public String secret; public List<String> guesses=new ArrayList<>(); public List<Feedback[]> feedback=new ArrayList<>(); public int turn; public boolean hardMode; public String statsJson; }
-    public static void save(GameState s, Stats stats, Path path) throws IOException { SaveData d=new SaveData(); d.secret=s.getSecret(); d.guesses=s.getGuesses(); d.feedback=s.getFeedbacks(); d.turn=s.getTurn(); d.hardMode=s.isHardMode(); d.statsJson=stats.toJson(); Files.writeString(path, new Gson().toJson(d)); }
-    public static void loadInto(GameState s, Stats stats, Path path) throws IOException { SaveData d=new Gson().fromJson(Files.readString(path), SaveData.class);
-        s.reset(d.secret); s.getGuesses().addAll(d.guesses); s.getFeedbacks().addAll(d.feedback); s.setTurn(d.turn); s.setHardMode(d.hardMode);
-        Stats t=Stats.fromJson(d.statsJson); stats.played=t.played; stats.wins=t.wins; stats.currentStreak=t.currentStreak; stats.bestStreak=t.bestStreak; stats.dist=t.dist; }
+    // One shared, thread-safe Gson for every save and load
+    public static final Gson GSON = new Gson();
+    public static class SaveData { public String secret; public List<String> secrets; public List<String> guesses=new ArrayList<>(); public List<Feedback[]> feedback=new ArrayList<>(); public int turn; public int maxTurns; public boolean hardMode; public boolean adversarial; public String statsJson; public transient Stats stats; }
+    // Save as JSON, or in the compact BinarySave format when the file name ends in .wsav
+    public static void save(GameState s, Stats stats, Path path) throws IOException { write(capture(s, stats), path); }
+    // Copy what a save needs, so it can be written later or on another thread while play goes on
+    public static SaveData capture(GameState s, Stats stats) { SaveData d=new SaveData(); d.secret=s.getSecret(); if (s.getBoardCount()>1) d.secrets=new ArrayList<>(s.getSecrets()); d.guesses=new ArrayList<>(s.getGuesses()); d.feedback=new ArrayList<>(s.getFeedbacks()); d.turn=s.getTurn(); d.maxTurns=s.getMaxTurns(); d.hardMode=s.isHardMode(); d.adversarial=s.isAdversarial(); d.stats=stats.copy(); return d; }
+    // Encode (binary for .wsav, streamed JSON otherwise) into a temp file next to path, fsync it, then atomically rename it over path (a crash leaves the old save intact)
+    public static void write(SaveData d, Path path) throws IOException {
+        if (isBinaryName(path)) { byte[] b=BinarySave.encode(d); writeAtomically(path, out -> out.write(b)); return; }
+        if (d.statsJson==null && d.stats!=null) d.statsJson=d.stats.toJson();
+        writeAtomically(path, out -> { JsonWriter w=GSON.newJsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))); GSON.toJson(d, SaveData.class, w); w.flush(); }); }
+    public static boolean isBinaryName(Path path) { return path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(BinarySave.EXTENSION); }
+    // Read either format: the first bytes decide, whatever the file is called
+    public static SaveData read(Path path) throws IOException { try (InputStream in=new BufferedInputStream(Files.newInputStream(path))) { in.mark(BinarySave.MAGIC.length); byte[] head=in.readNBytes(BinarySave.MAGIC.length); in.reset();
+        if (BinarySave.sniff(head)) return BinarySave.decode(in.readAllBytes());
+        SaveData d=GSON.fromJson(new InputStreamReader(in, StandardCharsets.UTF_8), SaveData.class); if (d==null || d.secret==null) throw new IOException("Not a WordleFX save"); return d; } }
+    // Multi-board saves list every secret but store only board 0's feedback; the other boards are replayed from the guesses
+    public static void loadInto(GameState s, Stats stats, Path path) throws IOException { SaveData d=read(path);
+        s.reset(d.secrets!=null && !d.secrets.isEmpty() ? d.secrets : List.of(d.secret), d.maxTurns>0 ? d.maxTurns : GameState.MAX_TURNS); s.getGuesses().addAll(d.guesses); s.getFeedbacks().addAll(d.feedback); s.replayBoards(); s.setTurn(d.turn); s.setHardMode(d.hardMode); s.setAdversarial(d.adversarial);
+        if(stats==null) return; Stats t=d.stats!=null ? d.stats : Stats.fromJson(d.statsJson); stats.played=t.played; stats.wins=t.wins; stats.currentStreak=t.currentStreak; stats.bestStreak=t.bestStreak; stats.dist=t.dist; }
+    // Load into a live model, then let it recompute status and its surviving-candidate set
+    public static void loadInto(WordleModel m, Path path) throws IOException { loadInto(m.getState(), m.getStats(), path); m.recomputeStatusAfterLoad(); }
+    // Load only the game and keep the model's stats (when they come from the HistoryLog, a save must not overwrite them)
+    public static void loadGameInto(WordleModel m, Path path) throws IOException { loadInto(m.getState(), null, path); m.recomputeStatusAfterLoad(); }
+
+    public interface Body { void writeTo(OutputStream out) throws IOException; }
+    public static void writeAtomically(Path path, Body body) throws IOException {
+        Path dir=path.toAbsolutePath().getParent(); Files.createDirectories(dir);
+        Path tmp=Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel ch=FileChannel.open(tmp, StandardOpenOption.WRITE)) { OutputStream out=Channels.newOutputStream(ch); body.writeTo(out); out.flush(); ch.force(true); }
+            try { Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING); }
+            catch (AtomicMoveNotSupportedException e) { Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING); }
+        } finally { Files.deleteIfExists(tmp); }
+    }
 }
@@ -0,0 +1,256 @@
+package wordle.io;
+
+import com.google.gson.Gson;
+import wordle.model.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// HistoryLog - Append-only record of every finished game, plus the lifetime Stats derived from it
+//
+// history.log holds one line per game: "1 <finishedAt> <ANSWER> <W|L> <turns> <H|N> <millis> <G1,G2,..> <crc32>"
+// (a multi-board game's ANSWER is its secrets joined with '+').
+// Each append is fsynced; a line cut short by a crash fails its checksum (or has no newline) and is dropped.
+// stats.snap holds the Stats after the first <offset> bytes of the log and is rewritten atomically every
+// SNAPSHOT_EVERY games, so opening the log only folds in the lines after that offset, never the whole history.
+//
+// stats() is the live aggregate: hand it to the WordleModel that plays the games (the model records each result
+// into it) and append() each finished game here. The snapshot is taken from a separate copy that only append()
+// updates, so its stats always match its offset even while an append is still queued.
+public class HistoryLog implements AutoCloseable {
+    public static final String LOG_FILE = "history.log";
+    public static final String SNAPSHOT_FILE = "stats.snap";
+    // Games between snapshots (bounds how much log is replayed on startup)
+    public static final int SNAPSHOT_EVERY = 64;
+    private static final Gson GSON = new Gson();
+
+    // One finished game
+    public static final class Entry {
+        public final long finishedAt;      // epoch millis
+        public final String answer;
+        public final boolean won;
+        public final int turns;
+        public final boolean hardMode;
+        public final long durationMillis;
+        public final List<String> guesses;
+
+        public Entry(long finishedAt, String answer, boolean won, int turns, boolean hardMode,
+                     long durationMillis, List<String> guesses) {
+            this.finishedAt = finishedAt;
+            this.answer = answer;
+            this.won = won;
+            this.turns = turns;
+            this.hardMode = hardMode;
+            this.durationMillis = durationMillis;
+            this.guesses = List.copyOf(guesses);
+        }
+
+        // Entry for the model's just-finished game
+        public static Entry of(WordleModel m) {
+            GameState s = m.getState();
+            return new Entry(System.currentTimeMillis(), String.join("+", s.getSecrets()), s.getStatus() == GameStatus.WON,
+                    s.getGuesses().size(), s.isHardMode(), m.gameDurationMillis(), s.getGuesses());
+        }
+
+        // Fold this game into an aggregate, exactly as WordleModel does when the game ends
+        public void applyTo(Stats stats) {
+            if (won) stats.recordWin(turns);
+            else stats.recordLoss();
+        }
+
+        String toLine() {
+            String body = "1 " + finishedAt + " " + answer + " " + (won ? "W" : "L") + " " + turns + " "
+                    + (hardMode ? "H" : "N") + " " + durationMillis + " " + (guesses.isEmpty() ? "-" : String.join(",", guesses));
+            return body + " " + Long.toHexString(crc(body)) + "\n";
+        }
+
+        // Parse one line (without its newline); null if it is damaged or from an unknown version
+        static Entry parse(String line) {
+            int cut = line.lastIndexOf(' ');
+            if (cut < 0) return null;
+            String body = line.substring(0, cut);
+            try {
+                if (Long.parseLong(line.substring(cut + 1), 16) != crc(body)) return null;
+                String[] f = body.split(" ");
+                if (f.length != 8 || !f[0].equals("1")) return null;
+                List<String> gs = f[7].equals("-") ? List.of() : Arrays.asList(f[7].split(","));
+                return new Entry(Long.parseLong(f[1]), f[2], f[3].equals("W"), Integer.parseInt(f[4]),
+                        f[5].equals("H"), Long.parseLong(f[6]), gs);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static long crc(String s) {
+            CRC32 c = new CRC32();
+            c.update(s.getBytes(StandardCharsets.UTF_8));
+            return c.getValue();
+        }
+    }
+
+    // What stats.snap stores
+    private static final class Snapshot {
+        long offset;
+        long entries;
+        Stats stats;
+    }
+
+    private final Path dir;
+    private final FileChannel log;
+    private final Stats stats;     // live, shared with the model
+    private final Stats durable;   // exactly the games written to the log
+    private long entries;          // games in the log
+    private long sinceSnapshot;    // games appended since stats.snap was written
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "wordle-history");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private HistoryLog(Path dir, FileChannel log, Stats durable, long entries, long sinceSnapshot) {
+        this.dir = dir;
+        this.log = log;
+        this.durable = durable;
+        this.stats = Stats.fromJson(durable.toJson());
+        this.entries = entries;
+        this.sinceSnapshot = sinceSnapshot;
+    }
+
+    // -Dwordle.data.dir, else ~/.wordlefx
+    public static Path defaultDir() {
+        String dir = System.getProperty("wordle.data.dir");
+        if (dir != null && !dir.isBlank()) return Paths.get(dir);
+        return Paths.get(System.getProperty("user.home"), ".wordlefx");
+    }
+
+    // Open (or create) the log in dir: snapshot stats + the lines after its offset; a torn last line is cut off
+    public static HistoryLog open(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        FileChannel ch = FileChannel.open(dir.resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            Snapshot snap = readSnapshot(dir.resolve(SNAPSHOT_FILE));
+            if (snap == null || snap.offset > ch.size()) {
+                snap = new Snapshot();
+                snap.stats = new Stats();
+            }
+            Stats agg = snap.stats;
+            long[] tail = new long[1];
+            long end = scan(ch, snap.offset, e -> { e.applyTo(agg); tail[0]++; });
+            if (end < ch.size()) {
+                ch.truncate(end);
+                ch.force(true);
+            }
+            ch.position(end);
+            HistoryLog h = new HistoryLog(dir, ch, agg, snap.entries + tail[0], tail[0]);
+            if (tail[0] >= SNAPSHOT_EVERY) h.writeSnapshot();
+            return h;
+        } catch (IOException | RuntimeException e) {
+            ch.close();
+            throw e;
+        }
+    }
+
+    // Lifetime stats (snapshot + log tail, plus whatever the model has recorded since)
+    public Stats stats() { return stats; }
+
+    public synchronized long entryCount() { return entries; }
+
+    // Durably append a finished game (fsync before returning)
+    public synchronized void append(Entry e) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(e.toLine().getBytes(StandardCharsets.UTF_8));
+        while (buf.hasRemaining()) log.write(buf);
+        log.force(false);
+        e.applyTo(durable);
+        entries++;
+        if (++sinceSnapshot >= SNAPSHOT_EVERY) writeSnapshot();
+    }
+
+    // append() on the history thread, so the caller (the FX thread) never waits on fsync
+    public void appendLater(Entry e) {
+        writer.execute(() -> {
+            try {
+                append(e);
+            } catch (IOException ex) {
+                System.err.println("history: could not record game: " + ex.getMessage());
+            }
+        });
+    }
+
+    // Every entry in order (for history views and tools; this is the only full read)
+    public synchronized List<Entry> readAll() throws IOException {
+        List<Entry> out = new ArrayList<>();
+        scan(log, 0, out::add);
+        return out;
+    }
+
+    // Write stats.snap for the current end of the log (temp file, then atomic rename)
+    public synchronized void writeSnapshot() throws IOException {
+        Snapshot s = new Snapshot();
+        s.offset = log.position();
+        s.entries = entries;
+        s.stats = durable;
+        byte[] json = GSON.toJson(s).getBytes(StandardCharsets.UTF_8);
+        GameIO.writeAtomically(dir.resolve(SNAPSHOT_FILE), out -> out.write(json));
+        sinceSnapshot = 0;
+    }
+
+    // Finish pending appends, snapshot, and close the file
+    @Override
+    public void close() throws IOException {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            if (!log.isOpen()) return;
+            if (sinceSnapshot > 0) writeSnapshot();
+            log.close();
+        }
+    }
+
+    private static Snapshot readSnapshot(Path file) {
+        try {
+            Snapshot s = GSON.fromJson(Files.readString(file), Snapshot.class);
+            if (s == null || s.stats == null || s.stats.dist == null || s.offset < 0) return null;
+            return s;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Feed every intact line from offset to sink; returns the offset just past the last complete line.
+    // A damaged line that still ends in a newline is skipped; an unterminated tail is left out of the result.
+    private static long scan(FileChannel ch, long offset, Consumer<Entry> sink) throws IOException {
+        long size = ch.size();
+        if (offset >= size) return offset;
+        ByteBuffer buf = ByteBuffer.allocate((int) Math.min(size - offset, Integer.MAX_VALUE));
+        long pos = offset;
+        while (buf.hasRemaining()) {
+            int n = ch.read(buf, pos);
+            if (n < 0) break;
+            pos += n;
+        }
+        byte[] bytes = buf.array();
+        int len = buf.position();
+        int start = 0;
+        for (int i = 0; i < len; i++) {
+            if (bytes[i] != '\n') continue;
+            Entry e = Entry.parse(new String(bytes, start, i - start, StandardCharsets.UTF_8));
+            if (e != null) sink.accept(e);
+            start = i + 1;
+        }
+        return offset + start;
+    }
+}
@@ -0,0 +1,168 @@
+package wordle.io;
+
+import wordle.model.Dictionary;
+import wordle.model.GameState;
+import wordle.model.HintCache;
+import wordle.model.Lexicon;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// WordListWatcher - Hot reload of the word lists for long-running servers and kiosks
+//
+// A WatchService thread watches the word-list folder (assets/words: the 5-letter valid*.txt/answers*.txt files at the top,
+// other lengths in <length>/ folders) and marks the lengths whose files changed. Once the folder has been quiet for
+// the debounce delay, each marked length the Lexicon has loaded is rebuilt on the reload thread with
+// Dictionary.fromDirectory, its indexes are built (prepare), and it is published with Lexicon.publish: one atomic
+// swap. Games and hint computations already running keep the Dictionary they started with; readers take no lock.
+// Cached hints of the old lists are dropped. A list that fails to load (half written, empty) leaves the old one in
+// place. Lengths not loaded yet are skipped; they load fresh when first played.
+public class WordListWatcher implements AutoCloseable {
+    public static final long DEFAULT_DELAY_MILLIS = 300;
+
+    private final Lexicon lexicon;
+    private final Path dir;
+    private final long delayMillis;
+    private final WatchService watcher;
+    private final Thread watchThread;
+    private final ScheduledExecutorService reloader = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "wordle-wordlists");
+        t.setDaemon(true);
+        return t;
+    });
+    // Bit n set: length n changed since the last reload
+    private final AtomicInteger dirty = new AtomicInteger();
+    private final List<Consumer<Dictionary>> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledFuture<?> pending;
+    private final Object reloadLock = new Object(); // one rebuild at a time; the watch thread never waits on it
+    private volatile long reloads;
+
+    public WordListWatcher(Lexicon lexicon, Path dir, long delayMillis) throws IOException {
+        this.lexicon = lexicon;
+        this.dir = dir;
+        this.delayMillis = delayMillis;
+        this.watcher = dir.getFileSystem().newWatchService();
+        register(dir);
+        try (var stream = Files.list(dir)) {
+            for (Path p : (Iterable<Path>) stream::iterator) if (lengthOfFolder(p) > 0) register(p);
+        }
+        this.watchThread = new Thread(this::watch, "wordle-wordlists-watch");
+        watchThread.setDaemon(true);
+    }
+
+    public WordListWatcher(Lexicon lexicon, Path dir) throws IOException {
+        this(lexicon, dir, DEFAULT_DELAY_MILLIS);
+    }
+
+    // Start watching (returns this for chaining)
+    public WordListWatcher start() {
+        watchThread.start();
+        return this;
+    }
+
+    // Called on the reload thread with each newly published Dictionary
+    public void addListener(Consumer<Dictionary> l) { listeners.add(l); }
+
+    public Path getDir() { return dir; }
+
+    // Number of dictionaries published so far
+    public long reloadCount() { return reloads; }
+
+    // Rebuild one length from disk and publish it right away (blocks the caller; the watcher uses it too).
+    // Returns the Dictionary now in the Lexicon: the old one if the lists did not actually change.
+    public Dictionary reload(int length) throws IOException {
+        synchronized (reloadLock) {
+            Dictionary old = lexicon.isLoaded(length) ? lexicon.get(length) : null;
+            Dictionary fresh = Dictionary.fromDirectory(dir, length, lexicon.isPermissive());
+            if (old != null && old.fingerprint() == fresh.fingerprint()) return old; // touched, not changed
+            fresh.prepare(old != null && old.hasPatterns());
+            lexicon.publish(fresh);
+            if (old != null) HintCache.shared().invalidate(old.fingerprint());
+            reloads++;
+            for (Consumer<Dictionary> l : listeners) l.accept(fresh);
+            return fresh;
+        }
+    }
+
+    // Stop watching and wait for a reload in progress to finish
+    @Override
+    public void close() {
+        try { watcher.close(); } catch (IOException ignored) {}
+        reloader.shutdownNow();
+        try { reloader.awaitTermination(5, TimeUnit.SECONDS); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    }
+
+    private void register(Path p) throws IOException {
+        p.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+    }
+
+    // Word length a <length>/ folder holds, or -1
+    private static int lengthOfFolder(Path p) {
+        String name = p.getFileName().toString();
+        if (!Files.isDirectory(p) || !name.matches("\\d{1,2}")) return -1;
+        int n = Integer.parseInt(name);
+        return n >= Lexicon.MIN_LEN && n <= Lexicon.MAX_LEN ? n : -1;
+    }
+
+    // Runs on the watch thread until close()
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watcher.take();
+                Path folder = (Path) key.watchable();
+                for (WatchEvent<?> ev : key.pollEvents()) {
+                    if (ev.kind() == StandardWatchEventKinds.OVERFLOW) { // events were lost: recheck everything
+                        for (int len = Lexicon.MIN_LEN; len <= Lexicon.MAX_LEN; len++) markDirty(len);
+                        continue;
+                    }
+                    Path child = folder.resolve((Path) ev.context());
+                    if (folder.equals(dir)) {
+                        int len = lengthOfFolder(child);
+                        if (len > 0) {
+                            register(child); // a length folder added while running
+                            markDirty(len);
+                        } else if (Dictionary.isWordListFile(child.getFileName().toString())) {
+                            markDirty(GameState.WORD_LEN);
+                        }
+                    } else {
+                        int len = lengthOfFolder(folder);
+                        if (len > 0) markDirty(len);
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException done) {
+            // closed
+        } catch (IOException e) {
+            System.err.println("word lists: stopped watching (" + e.getMessage() + ")");
+        }
+    }
+
+    // Note a changed length and (re)start the quiet-period timer
+    private synchronized void markDirty(int length) {
+        dirty.getAndUpdate(m -> m | 1 << length);
+        if (pending != null) pending.cancel(false);
+        if (!reloader.isShutdown()) pending = reloader.schedule(this::reloadDirty, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // Runs on the reload thread
+    private void reloadDirty() {
+        int mask = dirty.getAndSet(0);
+        for (int len = Lexicon.MIN_LEN; len <= Lexicon.MAX_LEN; len++) {
+            if ((mask & 1 << len) == 0 || !lexicon.isLoaded(len)) continue;
+            try {
+                reload(len);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("word lists: kept the old " + len + "-letter lists (" + e.getMessage() + ")");
+            }
+        }
+    }
+}
@@ -2,41 +2,281 @@ package wordle.model;
 
 // Import Libraries
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.file.*;
 import java.util.*;
 import java.util.stream.Collectors;
 
-// Dictionary Class - Handles loading, validating, and choosing words for the game
+// Dictionary Class - Handles loading, validating, and choosing words for the game (one word length per Dictionary;
+// Lexicon holds one per length and loads them on demand)
 public class Dictionary {
-    // Set of all valid words the player can guess
-    private final Set<String> valid = new HashSet<>();
-    // List of all possible answer words
-    private final List<String> answers = new ArrayList<>();
+    // Classpath location and header of the packed word list written by the packWords Gradle task
+    public static final String PACKED_RESOURCE = "words/words.bin";
+    private static final int PACKED_MAGIC = 0x57444943; // "WDIC"
+    private static final int PACKED_VERSION = 1;
+    // Word lists of a non-default length, under words/<length>/ relative to the resources root (assets/)
+    private static final List<String> SHARD_FILES = List.of("valid.txt", "answers.txt");
+
+    // Length of every word in this dictionary
+    private final int length;
+    // Every valid word (answers included), packed with WordPack, sorted ascending
+    private final long[] words;
+    // Every answer word, packed and sorted ascending
+    private final long[] answerWords;
+    // String views of the packed arrays, created on first use
+    private volatile List<String> guesses, answers;
     // Random number generator for picking random answers
     private final Random rand = new Random();
     // Whether to allow any 5-letter words
     private final boolean permissive;
+    // Guess x answer feedback table, built or loaded on first use
+    private volatile PatternMatrix patterns;
+    // Positional letter indexes over answers and valid guesses, built on first use
+    private volatile LetterIndex answerIndex, validIndex;
+    // Prefix trie over valid guesses, built on first use
+    private volatile WordTrie trie;
+    // Hash of the word lists; anything precomputed from them (opening book) records it to detect stale data
+    private final long fingerprint;
+    // Opening book resource for these lists, looked up on first use (OpeningBook.EMPTY if none matches)
+    private volatile OpeningBook openingBook;
 
     // Default constructor
     public Dictionary() {
         this(false);
     }
 
-    // Constructor with permissive option
+    // Constructor with permissive option (packed resource if present, text lists otherwise)
     public Dictionary(boolean permissive) {
+        this(GameState.WORD_LEN, permissive, loadDefault());
+    }
+
+    // Constructor from explicit 5-letter word lists (used by tests and tools)
+    public Dictionary(Collection<String> validWords, Collection<String> answerWords) {
+        this(GameState.WORD_LEN, validWords, answerWords);
+    }
+
+    // Constructor from explicit word lists of the given length (other lengths are dropped)
+    public Dictionary(int length, Collection<String> validWords, Collection<String> answerWords) {
+        this(length, false, fromLists(length, validWords, answerWords));
+    }
+
+    private Dictionary(int length, boolean permissive, long[][] lists) {
+        this.length = length;
         this.permissive = permissive;
-        loadAllLists(); // Load all word lists from files
-        valid.addAll(answers); // Make sure all answers are also valid words
+        this.words = lists[0];
+        this.answerWords = lists[1];
+        this.fingerprint = fingerprintOf(length, words, answerWords);
+    }
+
+    // 64-bit FNV-1a over the length and both packed lists
+    private static long fingerprintOf(int length, long[] words, long[] answers) {
+        long h = (0xcbf29ce484222325L ^ length) * 0x100000001b3L;
+        for (long[] list : new long[][] { words, answers }) {
+            for (long w : list) h = (h ^ w) * 0x100000001b3L;
+            h = (h ^ -1L) * 0x100000001b3L; // list separator
+        }
+        return h;
+    }
+
+    // Load the word lists for one length: the default lists for 5, otherwise assets/words/<length>/{valid,answers}.txt.
+    // With no answers list every valid word can be an answer. Throws if there are no words of that length.
+    public static Dictionary forLength(int length, boolean permissive) {
+        if (length == GameState.WORD_LEN) return new Dictionary(permissive);
+        if (length < 1 || length > WordPack.MAX_LEN) throw new IllegalArgumentException("Unsupported word length " + length);
+        Set<String> valid = new HashSet<>();
+        Set<String> answers = new HashSet<>();
+        for (String name : SHARD_FILES) loadShardFile(length, name, valid, answers);
+        if (valid.isEmpty()) throw new IllegalArgumentException("No " + length + "-letter word list");
+        return new Dictionary(length, permissive, fromLists(length, valid, answers.isEmpty() ? valid : answers));
+    }
+
+    // Load one length's lists straight from a word-list folder on disk (what WordListWatcher reloads from): for the
+    // default length every valid*.txt/answers*.txt file in dir, otherwise dir/<length>/{valid,answers}.txt. Unlike the
+    // constructors this never falls back to the classpath, and it throws if there are no words, so a half-written
+    // file never replaces a working list.
+    public static Dictionary fromDirectory(Path dir, int length, boolean permissive) throws IOException {
+        Set<String> valid = new HashSet<>();
+        Set<String> answers = new HashSet<>();
+        if (length == GameState.WORD_LEN) {
+            try (var stream = Files.list(dir)) {
+                for (Path p : stream.sorted().collect(Collectors.toList())) {
+                    String name = p.getFileName().toString().toLowerCase(Locale.ROOT);
+                    if (!Files.isRegularFile(p) || !isWordListFile(name)) continue;
+                    for (String line : Files.readAllLines(p))
+                        addWord(line, length, name.startsWith("valid") ? valid : null, name.startsWith("answers") ? answers : null);
+                }
+            }
+        } else {
+            for (String name : SHARD_FILES) {
+                Path p = dir.resolve(String.valueOf(length)).resolve(name);
+                if (Files.exists(p))
+                    for (String line : Files.readAllLines(p)) addWord(line, length, valid, name.startsWith("answers") ? answers : null);
+            }
+        }
+        if (valid.isEmpty() && answers.isEmpty()) throw new IOException("No " + length + "-letter words in " + dir);
+        if (answers.isEmpty()) answers = valid; // no answers list: every valid word can be an answer
+        return new Dictionary(length, permissive, fromLists(length, valid, answers));
+    }
+
+    // Whether a file in the top word-list folder is one of the 5-letter lists: valid*.txt or answers*.txt, as the
+    // packWords build step reads them (editor backups such as valid.txt~ or answers.txt.bak are not)
+    public static boolean isWordListFile(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        return (name.startsWith("valid") || name.startsWith("answers")) && name.endsWith(".txt");
+    }
+
+    // Build the derived indexes now instead of on first use (a reload does this on its own thread before publishing,
+    // so the first game on the new lists does not pay for it). The pattern table is only built if withPatterns.
+    public Dictionary prepare(boolean withPatterns) {
+        answerIndex();
+        validIndex();
+        trie();
+        openingBook();
+        if (withPatterns && supportsPatterns()) patterns();
+        return this;
+    }
+
+    // Whether the pattern table has been built or loaded
+    public boolean hasPatterns() { return patterns != null; }
+
+    // Whether forLength(length) has a word list to load (checked without reading it)
+    public static boolean hasWordList(int length) {
+        if (length == GameState.WORD_LEN) return true;
+        for (String name : SHARD_FILES) {
+            if (Dictionary.class.getClassLoader().getResource(shardResource(length, name)) != null) return true;
+            if (Files.exists(Paths.get("assets", shardResource(length, name)))) return true;
+        }
+        return false;
+    }
+
+    private static String shardResource(int length, String name) {
+        return "words/" + length + "/" + name;
+    }
+
+    private static void loadShardFile(int length, String name, Set<String> valid, Set<String> answers) {
+        boolean toAnswers = name.startsWith("answers");
+        try (InputStream in = Dictionary.class.getClassLoader().getResourceAsStream(shardResource(length, name))) {
+            if (in != null) {
+                try (BufferedReader br = new BufferedReader(new InputStreamReader(in))) {
+                    String line;
+                    while ((line = br.readLine()) != null) addWord(line, length, valid, toAnswers ? answers : null);
+                }
+                return;
+            }
+        } catch (IOException ignored) {}
+        try {
+            Path p = Paths.get("assets", shardResource(length, name));
+            if (Files.exists(p))
+                for (String line : Files.readAllLines(p)) addWord(line, length, valid, toAnswers ? answers : null);
+        } catch (IOException ignored) {}
+    }
+
+    // Length of every word here
+    public int wordLength() { return length; }
+
+    // Changes whenever the valid or answer list changes (same lists -> same value, across runs)
+    public long fingerprint() { return fingerprint; }
+
+    // The bundled opening book if it was generated from exactly these lists, else OpeningBook.EMPTY
+    public OpeningBook openingBook() {
+        OpeningBook b = openingBook;
+        if (b == null) openingBook = b = OpeningBook.loadResource(this);
+        return b;
+    }
+
+    // Use a book built elsewhere (tests, tools); one built from other lists is refused
+    public void useOpeningBook(OpeningBook b) {
+        if (!b.matches(this)) throw new IllegalArgumentException("Opening book was built from other word lists");
+        openingBook = b;
+    }
+
+    // Read a packed word list (same format packWords writes); null if the stream is not one
+    public static Dictionary loadPacked(InputStream in, boolean permissive) throws IOException {
+        long[][] lists = readPacked(in);
+        return lists == null ? null : new Dictionary(GameState.WORD_LEN, permissive, lists);
+    }
+
+    // Write this dictionary in the packed format: magic, version, count, then (letters << 1 | isAnswer) per word (5-letter words only)
+    public void writePacked(OutputStream out) throws IOException {
+        if (length != GameState.WORD_LEN) throw new IllegalStateException("The packed format holds 5-letter words only");
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeInt(PACKED_MAGIC);
+        dos.writeInt(PACKED_VERSION);
+        dos.writeInt(words.length);
+        for (long w : words) dos.writeInt((int) w << 1 | (Arrays.binarySearch(answerWords, w) >= 0 ? 1 : 0));
+        dos.flush();
+    }
+
+    // Packed resource first, then the text lists
+    private static long[][] loadDefault() {
+        try (InputStream in = Dictionary.class.getClassLoader().getResourceAsStream(PACKED_RESOURCE)) {
+            if (in != null) {
+                long[][] lists = readPacked(in);
+                if (lists != null) return lists;
+            }
+        } catch (IOException ignored) {}
+
+        Set<String> valid = new HashSet<>();
+        Set<String> answers = new HashSet<>();
+        loadAllLists(valid, answers);
+        return fromLists(GameState.WORD_LEN, valid, answers);
+    }
+
+    // Decode the packed format straight into the two sorted arrays
+    private static long[][] readPacked(InputStream in) throws IOException {
+        ByteBuffer buf = ByteBuffer.wrap(in.readAllBytes());
+        if (buf.remaining() < 12 || buf.getInt() != PACKED_MAGIC || buf.getInt() != PACKED_VERSION) return null;
+        int n = buf.getInt();
+        if (n < 0 || buf.remaining() != n * 4L) return null;
+
+        int[] raw = new int[n];
+        buf.asIntBuffer().get(raw);
+        long[] all = new long[n];
+        long[] ans = new long[n];
+        int a = 0;
+        for (int i = 0; i < n; i++) {
+            all[i] = raw[i] >>> 1;
+            if ((raw[i] & 1) != 0) ans[a++] = all[i];
+        }
+        return new long[][] { all, Arrays.copyOf(ans, a) };
+    }
+
+    // Pack, sort, and de-duplicate two word lists (answers are always valid too)
+    private static long[][] fromLists(int length, Collection<String> validWords, Collection<String> answerWords) {
+        long[] ans = packAll(length, answerWords);
+        long[] both = packAll(length, validWords);
+        long[] all = Arrays.copyOf(both, both.length + ans.length);
+        System.arraycopy(ans, 0, all, both.length, ans.length);
+        return new long[][] { sortedUnique(all), ans };
+    }
+
+    private static long[] packAll(int length, Collection<String> list) {
+        long[] out = new long[list.size()];
+        int n = 0;
+        for (String w : list) {
+            String s = w.trim();
+            long p = s.length() == length ? WordPack.pack(s) : -1;
+            if (p >= 0) out[n++] = p;
+        }
+        return sortedUnique(Arrays.copyOf(out, n));
+    }
+
+    private static long[] sortedUnique(long[] a) {
+        Arrays.sort(a);
+        int n = 0;
+        for (int i = 0; i < a.length; i++)
+            if (n == 0 || a[n - 1] != a[i]) a[n++] = a[i];
+        return Arrays.copyOf(a, n);
     }
 
     // Load all valid and answer word lists
-    private void loadAllLists() {
+    private static void loadAllLists(Set<String> valid, Set<String> answers) {
         String dir = "assets/words";
         List<String> classpathFiles = listClasspathFiles(dir);
 
         // Load from resources if available
         if (!classpathFiles.isEmpty()) {
-            for (String path : classpathFiles) loadOne(path);
+            for (String path : classpathFiles) loadOne(path, valid, answers);
         }
         // Otherwise, load from local directory
         else {
@@ -47,7 +287,7 @@ public class Dictionary {
                         for (Path p : stream.collect(Collectors.toList())) {
                             String name = p.getFileName().toString().toLowerCase(Locale.ROOT);
                             if (name.startsWith("valid") || name.startsWith("answers")) {
-                                loadOne(p.toString());
+                                loadOne(p.toString(), valid, answers);
                             }
                         }
                     }
@@ -57,7 +297,7 @@ public class Dictionary {
     }
 
     // List of potential word list file paths to load
-    private List<String> listClasspathFiles(String root) {
+    private static List<String> listClasspathFiles(String root) {
         return List.of(
                 root + "/valid.txt",
                 root + "/answers.txt",
@@ -68,7 +308,7 @@ public class Dictionary {
     }
 
     // Load one file and add its contents to valid or answers lists
-    private void loadOne(String path) {
+    private static void loadOne(String path, Set<String> valid, Set<String> answers) {
         boolean toValid = path.toLowerCase(Locale.ROOT).contains("valid");
         boolean toAnswers = path.toLowerCase(Locale.ROOT).contains("answers");
 
@@ -77,7 +317,7 @@ public class Dictionary {
             if (in != null) {
                 try (BufferedReader br = new BufferedReader(new InputStreamReader(in))) {
                     String line;
-                    while ((line = br.readLine()) != null) addWord(line, toValid, toAnswers);
+                    while ((line = br.readLine()) != null) addWord(line, GameState.WORD_LEN, toValid ? valid : null, toAnswers ? answers : null);
                 }
                 return;
             }
@@ -87,38 +327,138 @@ public class Dictionary {
         try {
             Path p = Paths.get(path);
             if (Files.exists(p)) {
-                for (String line : Files.readAllLines(p)) addWord(line, toValid, toAnswers);
+                for (String line : Files.readAllLines(p)) addWord(line, GameState.WORD_LEN, toValid ? valid : null, toAnswers ? answers : null);
             }
         } catch (IOException ignored) {}
     }
 
-    // Add a single word to the correct lists if it's valid (A–Z only and 5 letters)
-    private void addWord(String line, boolean toValid, boolean toAnswers) {
-        String s = line.trim().toUpperCase(Locale.ROOT);
-        if (s.length() == 5 && s.matches("[A-Z]{5}")) {
-            if (toValid) valid.add(s);
-            if (toAnswers) answers.add(s);
+    // Add a single word to the correct lists if it's valid (A–Z only and the right length)
+    private static void addWord(String line, int length, Set<String> valid, Set<String> answers) {
+        String s = line.trim();
+        if (s.length() == length && WordPack.pack(s) >= 0) {
+            s = s.toUpperCase(Locale.ROOT);
+            if (valid != null) valid.add(s);
+            if (answers != null) answers.add(s);
         }
     }
 
     // Check if a word is valid
     public boolean isValidWord(String w) {
-        if (w == null) return false;
-        String s = w.toUpperCase(Locale.ROOT);
-        if (valid.contains(s)) return true;
-        return permissive && s.length() == 5 && s.matches("[A-Z]{5}");
+        return isValidWord((CharSequence) w);
+    }
+
+    // Check a word without allocating (accepts the controller's StringBuilder directly)
+    public boolean isValidWord(CharSequence w) {
+        if (w == null || w.length() != length) return false;
+        long p = WordPack.pack(w);
+        if (p < 0) return false;
+        return permissive || contains(p);
+    }
+
+    // Binary search for an already packed word
+    public boolean contains(long packed) {
+        return Arrays.binarySearch(words, packed) >= 0;
+    }
+
+    // Position of a word in allGuesses() (and PatternMatrix rows), or -1
+    public int guessIndex(CharSequence w) {
+        long p = w.length() == length ? WordPack.pack(w) : -1;
+        if (p < 0) return -1;
+        int i = Arrays.binarySearch(words, p);
+        return i >= 0 ? i : -1;
     }
 
     // Get a random answer word from the list
     public String randomAnswer() {
-        if (answers.isEmpty()) return "CRANE"; // fallback if list is empty
-        return answers.get(rand.nextInt(answers.size()));
+        if (answerWords.length == 0) return "CRANE"; // fallback if list is empty
+        return WordPack.unpack(answerWords[rand.nextInt(answerWords.length)], length);
     }
 
-    // Return an unmodifiable list of all possible answer candidates
+    // Return an unmodifiable list of all possible answer candidates (alphabetical)
     public List<String> allCandidates() {
-        return answers.isEmpty()
-                ? List.of("CRANE")
-                : Collections.unmodifiableList(answers);
+        List<String> a = answers;
+        if (a == null) {
+            a = answerWords.length == 0 ? List.of("CRANE") : unpackAll(answerWords, length);
+            answers = a;
+        }
+        return a;
+    }
+
+    // Return every valid guess in alphabetical order (index = PatternMatrix row)
+    public List<String> allGuesses() {
+        List<String> g = guesses;
+        if (g == null) guesses = g = unpackAll(words, length);
+        return g;
+    }
+
+    private static List<String> unpackAll(long[] packed, int length) {
+        String[] out = new String[packed.length];
+        for (int i = 0; i < packed.length; i++) out[i] = WordPack.unpack(packed[i], length);
+        return List.of(out);
+    }
+
+    // Whether patterns() is available (a feedback code must fit the matrix's one byte per pair)
+    public boolean supportsPatterns() {
+        return length <= PatternMatrix.MAX_WORD_LEN;
+    }
+
+    // Guess x answer pattern table for this dictionary, loaded from the disk cache or built on first call
+    public PatternMatrix patterns() {
+        if (!supportsPatterns()) throw new UnsupportedOperationException("No pattern table for " + length + "-letter words");
+        PatternMatrix p = patterns;
+        if (p == null) {
+            synchronized (this) {
+                p = patterns;
+                if (p == null) {
+                    p = PatternMatrix.load(allGuesses(), allCandidates(), PatternMatrix.defaultCacheDir());
+                    patterns = p;
+                }
+            }
+        }
+        return p;
+    }
+
+    // Letter index over allCandidates() (bit i = allCandidates().get(i))
+    public LetterIndex answerIndex() {
+        LetterIndex idx = answerIndex;
+        if (idx == null) {
+            synchronized (this) {
+                idx = answerIndex;
+                if (idx == null) answerIndex = idx = new LetterIndex(allCandidates(), length);
+            }
+        }
+        return idx;
+    }
+
+    // Letter index over allGuesses() (bit i = allGuesses().get(i))
+    public LetterIndex validIndex() {
+        LetterIndex idx = validIndex;
+        if (idx == null) {
+            synchronized (this) {
+                idx = validIndex;
+                if (idx == null) validIndex = idx = new LetterIndex(allGuesses(), length);
+            }
+        }
+        return idx;
+    }
+
+    // Prefix trie over allGuesses() (live typing feedback: matches, completions, validity)
+    public WordTrie trie() {
+        WordTrie t = trie;
+        if (t == null) {
+            synchronized (this) {
+                t = trie;
+                if (t == null) trie = t = new WordTrie(allGuesses(), length);
+            }
+        }
+        return t;
+    }
+
+    // Whether any word of the right length is accepted (the lists then only supply answers and suggestions)
+    public boolean isPermissive() { return permissive; }
+
+    // Word search over valid guesses, e.g. query("C?A?E", "R", "TS"); any argument may be null
+    public List<String> query(String pattern, String include, String exclude) {
+        return validIndex().queryWords(pattern, include, exclude);
     }
 }
@@ -0,0 +1,145 @@
+package wordle.model;
+
+import java.util.BitSet;
+import java.util.List;
+
+// FeedbackCode Class - Packs a whole row of feedback into one base-3 int (digit i = position i)
+public final class FeedbackCode {
+    // Digit values for each color
+    public static final int GRAY = 0, YELLOW = 1, GREEN = 2;
+    // Number of distinct codes for a 5-letter word (3^5)
+    public static final int COUNT = 243;
+
+    // Digit -> enum lookup used when decoding
+    private static final Feedback[] BY_DIGIT = { Feedback.GRAY, Feedback.YELLOW, Feedback.GREEN };
+
+    private FeedbackCode() {}
+
+    // Number of distinct codes for a word of the given length (3^len)
+    public static int count(int len) {
+        int n = 1;
+        for (int i = 0; i < len; i++) n *= 3;
+        return n;
+    }
+
+    // Map a letter (either case) to 0..25
+    public static int letter(char c) {
+        return (c | 0x20) - 'a';
+    }
+
+    // Evaluate a guess against a secret and return its pattern code.
+    // counts must be an int[26] of zeros; it is left zeroed again on return so it can be reused.
+    public static int evaluate(CharSequence guess, CharSequence secret, int[] counts) {
+        int L = guess.length();
+        int greens = 0;
+
+        // Mark greens first and count remaining secret letters
+        for (int i = 0; i < L; i++) {
+            int s = letter(secret.charAt(i));
+            if (letter(guess.charAt(i)) == s) greens |= 1 << i;
+            else counts[s]++;
+        }
+
+        // Assign yellow or gray, consuming the remaining counts left to right
+        int code = 0;
+        for (int i = 0, pow = 1; i < L; i++, pow *= 3) {
+            if ((greens & (1 << i)) != 0) {
+                code += GREEN * pow;
+            } else {
+                int g = letter(guess.charAt(i));
+                if (counts[g] > 0) {
+                    counts[g]--;
+                    code += YELLOW * pow;
+                }
+            }
+        }
+
+        // Leave the scratch array clean for the next call
+        for (int i = 0; i < L; i++) counts[letter(secret.charAt(i))] = 0;
+        return code;
+    }
+
+    // Evaluate one guess against every secret in one pass (multi-board games): the guess is decoded to letter
+    // indices once, then each secret costs a green/count sweep and a yellow sweep. codes[b] gets secret b's code;
+    // counts is the same zeroed int[26] scratch as evaluate and is left zeroed.
+    public static void evaluateAll(CharSequence guess, List<String> secrets, int[] codes, int[] counts) {
+        int[] g = letters(guess);
+        for (int b = 0, n = secrets.size(); b < n; b++) codes[b] = evaluate(g, secrets.get(b), counts);
+    }
+
+    // Count how many of the words selected by which (indices into words) would give each code for this guess:
+    // buckets[code] += 1 per word, in one pass with the guess decoded once. buckets must hold count(len) ints.
+    public static void countBuckets(CharSequence guess, List<String> words, BitSet which, int[] buckets, int[] counts) {
+        int[] g = letters(guess);
+        for (int i = which.nextSetBit(0); i >= 0; i = which.nextSetBit(i + 1)) buckets[evaluate(g, words.get(i), counts)]++;
+    }
+
+    private static int[] letters(CharSequence w) {
+        int[] g = new int[w.length()];
+        for (int i = 0; i < g.length; i++) g[i] = letter(w.charAt(i));
+        return g;
+    }
+
+    // evaluate() with the guess already decoded to letter indices
+    private static int evaluate(int[] g, CharSequence secret, int[] counts) {
+        int L = g.length;
+        int greens = 0;
+        for (int i = 0; i < L; i++) {
+            int s = letter(secret.charAt(i));
+            if (g[i] == s) greens |= 1 << i;
+            else counts[s]++;
+        }
+        int code = 0;
+        for (int i = 0, pow = 1; i < L; i++, pow *= 3) {
+            if ((greens & (1 << i)) != 0) code += GREEN * pow;
+            else if (counts[g[i]] > 0) {
+                counts[g[i]]--;
+                code += YELLOW * pow;
+            }
+        }
+        for (int i = 0; i < L; i++) counts[letter(secret.charAt(i))] = 0;
+        return code;
+    }
+
+    // Convenience overload with its own scratch array
+    public static int evaluate(CharSequence guess, CharSequence secret) {
+        return evaluate(guess, secret, new int[26]);
+    }
+
+    // Digit (GRAY/YELLOW/GREEN) at one position of a code
+    public static int at(int code, int pos) {
+        for (int i = 0; i < pos; i++) code /= 3;
+        return code % 3;
+    }
+
+    // Code where every position is green
+    public static int allGreen(int len) {
+        return count(len) - 1;
+    }
+
+    // Digit value of a single feedback color
+    public static int of(Feedback f) {
+        return switch (f) {
+            case GREEN -> GREEN;
+            case YELLOW -> YELLOW;
+            case GRAY -> GRAY;
+        };
+    }
+
+    // Pack a Feedback[] row into its code
+    public static int encode(Feedback[] fb) {
+        int code = 0;
+        for (int i = fb.length - 1; i >= 0; i--) code = code * 3 + of(fb[i]);
+        return code;
+    }
+
+    // Unpack a code into a fresh Feedback[] (for the view and GameIO)
+    public static Feedback[] decode(int code, int len) {
+        Feedback[] res = new Feedback[len];
+        for (int i = 0; i < len; i++) {
+            res[i] = BY_DIGIT[code % 3];
+            code /= 3;
+        }
+        return res;
+    }
+}
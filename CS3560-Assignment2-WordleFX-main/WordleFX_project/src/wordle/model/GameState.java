@@ -4,32 +4,107 @@ import java.util.*;
 
 // GameState Class - Stores the current progress and data of a Wordle game
 public class GameState {
-    // Constants for word length and number of turns
+    // Default word length and number of turns (each game can choose its own)
     public static final int WORD_LEN = 5;
     public static final int MAX_TURNS = 6;
+    // Most boards one game can play at once (Dordle = 2, Quordle = 4, Octordle = 8, Sedecordle = 16)
+    public static final int MAX_BOARDS = 32;
+    // Guesses an adversarial (Absurdle) game allows by default
+    public static final int ADVERSARIAL_TURNS = 10;
 
-    // The secret word the player is trying to guess
+    // The secret word the player is trying to guess (board 0's secret in a multi-board game)
     private String secret;
     // Current turn number
     private int turn;
+    // Letters per word (the secret's length) and guesses allowed in this game
+    private int wordLength;
+    private int maxTurns = MAX_TURNS;
     // List of player guesses
     private final List<String> guesses = new ArrayList<>();
     // List of feedback arrays (color results for each guess)
     private final List<Feedback[]> feedbacks = new ArrayList<>();
+    // Every board's secret and feedback rows, aligned with guesses (board 0 is secret / feedbacks)
+    private final List<String> secrets = new ArrayList<>();
+    private final List<List<Feedback[]>> boardFeedbacks = new ArrayList<>();
+    // Guess index that solved each board, -1 while it is unsolved
+    private int[] solvedAt = { -1 };
     // Whether Hard Mode is enabled
     private boolean hardMode = false;
+    // Adversarial (Absurdle) game: no secret is committed; after each guess the model keeps the largest group of
+    // answers consistent with the feedback, and secret is just one word of that group
+    private boolean adversarial = false;
     // Current status of the game (In progress, Won, or Lost)
     private GameStatus status = GameStatus.IN_PROGRESS;
 
     // Constructor - initializes game with a secret word
     public GameState(String secret) {
-        this.secret = secret.toUpperCase();
         this.turn = 0;
+        setBoards(List.of(secret));
+    }
+
+    // Constructor with a turn limit other than MAX_TURNS
+    public GameState(String secret, int maxTurns) {
+        this(secret);
+        setMaxTurns(maxTurns);
+    }
+
+    // Constructor for a multi-board game: one secret per board, every guess is played on all of them
+    public GameState(List<String> secrets, int maxTurns) {
+        setBoards(secrets);
+        setMaxTurns(maxTurns);
+    }
+
+    // Copy with its own lists (the feedback rows themselves are shared; they are never modified)
+    public GameState(GameState from) {
+        setBoards(from.secrets);
+        guesses.addAll(from.guesses);
+        for (int b = 0; b < boardFeedbacks.size(); b++) boardFeedbacks.get(b).addAll(from.boardFeedbacks.get(b));
+        solvedAt = from.solvedAt.clone();
+        turn = from.turn;
+        maxTurns = from.maxTurns;
+        hardMode = from.hardMode;
+        adversarial = from.adversarial;
+        status = from.status;
+    }
+
+    // Guesses a game with this word length and board count gets by default (5 letters: 6, Dordle 7, Quordle 9, ...)
+    public static int defaultTurns(int wordLength, int boards) {
+        return wordLength + boards;
     }
 
     // Getter and Setter for secret word
     public String getSecret() { return secret; }
-    public void setSecret(String s) { secret = s.toUpperCase(); }
+    public void setSecret(String s) {
+        secret = s.toUpperCase();
+        wordLength = secret.length();
+        secrets.set(0, secret);
+    }
+
+    // Number of boards (1 in a classic game) and each board's secret
+    public int getBoardCount() { return secrets.size(); }
+    public List<String> getSecrets() { return Collections.unmodifiableList(secrets); }
+    public String getSecret(int board) { return secrets.get(board); }
+
+    // Feedback rows of one board, one per guess (board 0's list is getFeedbacks())
+    public List<Feedback[]> getBoardFeedbacks(int board) { return boardFeedbacks.get(board); }
+
+    // Guess index that solved a board, or -1; and how many boards are solved
+    public int getSolvedAt(int board) { return solvedAt[board]; }
+    public boolean isSolved(int board) { return solvedAt[board] >= 0; }
+    public void setSolvedAt(int board, int guessIndex) { solvedAt[board] = guessIndex; }
+    public int solvedCount() {
+        int n = 0;
+        for (int s : solvedAt) if (s >= 0) n++;
+        return n;
+    }
+
+    // Getters for this game's word length and turn limit
+    public int getWordLength() { return wordLength; }
+    public int getMaxTurns() { return maxTurns; }
+    public void setMaxTurns(int n) {
+        if (n < 1) throw new IllegalArgumentException("A game needs at least one turn");
+        maxTurns = n;
+    }
 
     // Getter and Setter for turn count
     public int getTurn() { return turn; }
@@ -45,16 +120,76 @@ public class GameState {
     public boolean isHardMode() { return hardMode; }
     public void setHardMode(boolean v) { hardMode = v; }
 
+    // Getter and Setter for adversarial mode (single-board games only)
+    public boolean isAdversarial() { return adversarial; }
+    public void setAdversarial(boolean v) {
+        if (v && secrets.size() > 1) throw new IllegalArgumentException("Adversarial games have one board");
+        adversarial = v;
+    }
+
     // Getter and Setter for game status (Won, Lost, or In Progress)
     public GameStatus getStatus() { return status; }
     public void setStatus(GameStatus s) { status = s; }
 
     // Reset the game state for a new round
     public void reset(String newSecret) {
+        reset(List.of(newSecret));
+    }
+
+    // Reset for a new round with a different turn limit
+    public void reset(String newSecret, int newMaxTurns) {
+        reset(newSecret);
+        setMaxTurns(newMaxTurns);
+    }
+
+    // Reset for a new round on one board per secret
+    public void reset(List<String> newSecrets) {
         guesses.clear();
-        feedbacks.clear();
         turn = 0;
         status = GameStatus.IN_PROGRESS;
-        secret = newSecret.toUpperCase();
+        adversarial = false;
+        setBoards(newSecrets);
+    }
+
+    public void reset(List<String> newSecrets, int newMaxTurns) {
+        reset(newSecrets);
+        setMaxTurns(newMaxTurns);
+    }
+
+    // Recompute every other board's feedback and which boards are solved from the guesses and board 0's feedback
+    // (a save stores only those)
+    public void replayBoards() {
+        int[] scratch = new int[26];
+        for (int b = 0; b < secrets.size(); b++) {
+            String s = secrets.get(b);
+            List<Feedback[]> rows = boardFeedbacks.get(b);
+            if (b > 0) rows.clear();
+            solvedAt[b] = -1;
+            for (int k = 0; k < guesses.size(); k++) {
+                String g = guesses.get(k);
+                if (b > 0) rows.add(FeedbackCode.decode(FeedbackCode.evaluate(g, s, scratch), wordLength));
+                if (solvedAt[b] < 0 && g.equals(s)) solvedAt[b] = k;
+            }
+        }
+    }
+
+    private void setBoards(List<String> newSecrets) {
+        if (newSecrets.isEmpty() || newSecrets.size() > MAX_BOARDS)
+            throw new IllegalArgumentException("A game needs 1 to " + MAX_BOARDS + " boards");
+        List<String> upper = new ArrayList<>(newSecrets.size());
+        for (String s : newSecrets) upper.add(s.toUpperCase());
+        int len = upper.get(0).length();
+        for (String s : upper)
+            if (s.length() != len) throw new IllegalArgumentException("Every board needs a " + len + "-letter secret");
+        secrets.clear();
+        secrets.addAll(upper);
+        secret = upper.get(0);
+        wordLength = len;
+        feedbacks.clear();
+        boardFeedbacks.clear();
+        boardFeedbacks.add(feedbacks);
+        for (int b = 1; b < upper.size(); b++) boardFeedbacks.add(new ArrayList<>());
+        solvedAt = new int[upper.size()];
+        Arrays.fill(solvedAt, -1);
     }
 }
@@ -0,0 +1,115 @@
+package wordle.model;
+
+import java.util.*;
+
+// HardModeRules - Hard mode constraints of one board, accumulated one committed guess at a time
+//
+// Hard mode only ever asks two things of a guess: every green letter stays where it was found, and every letter
+// revealed (green or yellow) is used at least as many times as one earlier guess showed it. Both fit in primitive
+// arrays that add() tightens once per guess, so allows() is a single pass over the guess with no history replay.
+// The hard-mode-legal guesses are kept as a bitset over the dictionary's valid words; it is built on first use
+// and from then on only narrowed by the constraints each new guess adds (a few bitset ANDs).
+public final class HardModeRules {
+    private final Dictionary dict;
+    private final int len;
+    // green[i]: letter fixed at position i, or -1
+    private final int[] green;
+    // min[c]: copies of letter c every guess must contain; needMask has bit c set while min[c] > 0
+    private final int[] min = new int[26];
+    private int needMask;
+    private final int[] count = new int[26]; // reusable letter counts
+    // Legal guesses (indices into dict.allGuesses()), null until legalCount()/legalGuesses() first asks
+    private BitSet legal;
+    private int legalCount;
+
+    public HardModeRules(Dictionary dict) {
+        this.dict = dict;
+        this.len = dict.wordLength();
+        this.green = new int[len];
+        Arrays.fill(green, -1);
+    }
+
+    // Copy for WordleModel.snapshot()
+    HardModeRules(HardModeRules src) {
+        this.dict = src.dict;
+        this.len = src.len;
+        this.green = src.green.clone();
+        System.arraycopy(src.min, 0, min, 0, 26);
+        this.needMask = src.needMask;
+        this.legal = src.legal == null ? null : (BitSet) src.legal.clone();
+        this.legalCount = src.legalCount;
+    }
+
+    // Tighten the rules with one committed guess and its feedback code
+    public void add(CharSequence guess, int code) {
+        LetterIndex idx = legal == null ? null : dict.validIndex();
+        for (int i = 0, rest = code; i < len; i++, rest /= 3) {
+            int d = rest % 3;
+            if (d == FeedbackCode.GRAY) continue;
+            int c = FeedbackCode.letter(guess.charAt(i));
+            count[c]++;
+            if (d == FeedbackCode.GREEN && green[i] != c) {
+                green[i] = c;
+                if (idx != null) idx.requireAt(legal, i, c);
+            }
+        }
+        for (int i = 0; i < len; i++) {
+            int c = FeedbackCode.letter(guess.charAt(i));
+            if (count[c] > min[c]) {
+                min[c] = count[c];
+                needMask |= 1 << c;
+                if (idx != null) idx.requireAtLeast(legal, c, min[c]);
+            }
+            count[c] = 0;
+        }
+        if (idx != null) legalCount = legal.cardinality();
+    }
+
+    // Whether a guess keeps every green in place and uses every revealed letter often enough (O(word length))
+    public boolean allows(CharSequence guess) {
+        if (guess.length() != len) return false;
+        for (int i = 0; i < len; i++) {
+            if (green[i] >= 0 && FeedbackCode.letter(guess.charAt(i)) != green[i]) return false;
+        }
+        if (needMask == 0) return true;
+        for (int i = 0; i < len; i++) count[FeedbackCode.letter(guess.charAt(i))]++;
+        boolean ok = true;
+        for (int m = needMask; m != 0 && ok; m &= m - 1) {
+            int c = Integer.numberOfTrailingZeros(m);
+            ok = count[c] >= min[c];
+        }
+        for (int i = 0; i < len; i++) count[FeedbackCode.letter(guess.charAt(i))] = 0;
+        return ok;
+    }
+
+    // Letter fixed at a position (0 = 'A'), or -1
+    public int greenAt(int pos) { return green[pos]; }
+
+    // Copies of a letter (0 = 'A') every guess must contain
+    public int minCount(int letter) { return min[letter]; }
+
+    // Number of valid guesses hard mode still allows
+    public int legalCount() {
+        legalBits();
+        return legalCount;
+    }
+
+    // The valid guesses hard mode still allows, in dictionary order
+    public List<String> legalGuesses() {
+        return dict.validIndex().toWords(legalBits());
+    }
+
+    private BitSet legalBits() {
+        if (legal == null) {
+            LetterIndex idx = dict.validIndex();
+            legal = idx.all();
+            for (int i = 0; i < len; i++) if (green[i] >= 0) idx.requireAt(legal, i, green[i]);
+            for (int m = needMask; m != 0; m &= m - 1) {
+                int c = Integer.numberOfTrailingZeros(m);
+                idx.requireAtLeast(legal, c, min[c]);
+            }
+            legalCount = legal.cardinality();
+        }
+        return legal;
+    }
+}
@@ -0,0 +1,129 @@
+package wordle.model;
+
+import java.util.*;
+
+// HintCache - Bounded, thread-safe LRU of hints by game position, shared by every model in the process
+//
+// A position is keyed by a canonical packed encoding of the guess history: one tuple per distinct guess
+// (WordPack letters, then each board's feedback code), sorted, so histories that reveal the same information in a
+// different order share an entry. Hints depend only on that information, the hint mode, whether hard mode limits the
+// guesses and the word lists, so the key also carries the mode, the hard mode flag and Dictionary.fingerprint():
+// entries of changed lists can never be hit again and simply age out (invalidate() drops them at once). The hint
+// itself is computed outside the lock; two threads that miss on the same position at once both compute it, and the
+// second put wins.
+public final class HintCache {
+    public static final int DEFAULT_CAPACITY = 4096;
+    private static final HintCache SHARED = new HintCache(DEFAULT_CAPACITY);
+
+    // One cached position: the hint and a summary of the candidate sets it was computed from
+    public static final class Entry {
+        public final String hint;
+        public final int openBoards;      // boards not solved yet
+        public final int candidates;      // surviving answers, summed over the open boards
+
+        Entry(String hint, int openBoards, int candidates) {
+            this.hint = hint;
+            this.openBoards = openBoards;
+            this.candidates = candidates;
+        }
+    }
+
+    // Packed position; equality is on the whole array
+    public static final class Key {
+        private final long[] packed;
+        private final int hash;
+
+        private Key(long[] packed) {
+            this.packed = packed;
+            this.hash = Arrays.hashCode(packed);
+        }
+
+        long fingerprint() { return packed[0]; }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && k.hash == hash && Arrays.equals(k.packed, packed);
+        }
+
+        @Override
+        public int hashCode() { return hash; }
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Entry> map;
+    private long hits, misses, evictions;
+
+    public HintCache(int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+        this.map = new LinkedHashMap<>(Math.min(capacity, 1024) * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() <= HintCache.this.capacity) return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    // The process-wide cache models use unless given another
+    public static HintCache shared() { return SHARED; }
+
+    // Key for the model's current position under a hint mode
+    public static Key key(Dictionary dict, HintMode mode, GameState state) {
+        List<String> guesses = state.getGuesses();
+        int boards = state.getBoardCount(), width = 1 + boards, n = guesses.size();
+        long[][] rows = new long[n][width];
+        for (int k = 0; k < n; k++) {
+            rows[k][0] = WordPack.pack(guesses.get(k));
+            for (int b = 0; b < boards; b++) rows[k][1 + b] = FeedbackCode.encode(state.getBoardFeedbacks(b).get(k));
+        }
+        Arrays.sort(rows, Arrays::compare);
+
+        // fingerprint, mode (bit 8: hard mode), boards, tuple count, tuples
+        long[] packed = new long[4 + n * width];
+        packed[0] = dict.fingerprint();
+        packed[1] = mode.ordinal() | (state.isHardMode() && boards == 1 ? 1 << 8 : 0);
+        packed[2] = boards;
+        int distinct = 0;
+        for (int k = 0; k < n; k++) {
+            if (k > 0 && Arrays.equals(rows[k], rows[k - 1])) continue; // a repeated guess adds nothing
+            System.arraycopy(rows[k], 0, packed, 4 + distinct * width, width);
+            distinct++;
+        }
+        packed[3] = distinct;
+        return new Key(distinct == n ? packed : Arrays.copyOf(packed, 4 + distinct * width));
+    }
+
+    // Cached entry, counting the hit or miss
+    public synchronized Entry get(Key key) {
+        Entry e = map.get(key);
+        if (e != null) hits++;
+        else misses++;
+        return e;
+    }
+
+    public synchronized void put(Key key, String hint, int openBoards, int candidates) {
+        map.put(key, new Entry(hint, openBoards, candidates));
+    }
+
+    // Drop every entry computed from the word lists with this fingerprint
+    public synchronized void invalidate(long fingerprint) {
+        map.keySet().removeIf(k -> k.fingerprint() == fingerprint);
+    }
+
+    public synchronized void clear() { map.clear(); }
+
+    public synchronized int size() { return map.size(); }
+    public int capacity() { return capacity; }
+    public synchronized long hits() { return hits; }
+    public synchronized long misses() { return misses; }
+    public synchronized long evictions() { return evictions; }
+
+    @Override
+    public synchronized String toString() {
+        long total = hits + misses;
+        return String.format(Locale.ROOT, "HintCache[size=%d/%d hits=%d misses=%d evictions=%d hitRate=%.1f%%]",
+                map.size(), capacity, hits, misses, evictions, total == 0 ? 0 : 100.0 * hits / total);
+    }
+}
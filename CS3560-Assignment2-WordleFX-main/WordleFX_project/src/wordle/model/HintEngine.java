@@ -1,91 +1,88 @@
 package wordle.model;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 // HintEngine Class - Generates hints and filters possible words based on player feedback
 public class HintEngine {
 
     // Filter out candidate words that do not match previous guesses and feedback
     public static List<String> filterCandidates(List<String> candidates, List<String> guesses, List<Feedback[]> fbs) {
-        List<String> filtered = new ArrayList<>(candidates);
-        for (int gi = 0; gi < guesses.size(); gi++) {
-            String g = guesses.get(gi);
-            Feedback[] fb = fbs.get(gi);
-            filtered = filtered.stream()
-                    .filter(w -> compatible(w, g, fb))
-                    .collect(Collectors.toList());
+        int[] codes = new int[guesses.size()];
+        for (int gi = 0; gi < codes.length; gi++) codes[gi] = FeedbackCode.encode(fbs.get(gi));
+        return filterCandidates(candidates, guesses, codes);
+    }
+
+    // Filter the dictionary's answers through its letter index (bitset AND/ANDNOT per guess instead of scanning words)
+    public static List<String> filterCandidates(Dictionary dict, List<String> guesses, List<Feedback[]> fbs) {
+        int[] codes = new int[guesses.size()];
+        for (int gi = 0; gi < codes.length; gi++) codes[gi] = FeedbackCode.encode(fbs.get(gi));
+        LetterIndex idx = dict.answerIndex();
+        return idx.toWords(idx.filter(guesses, codes));
+    }
+
+    // Same filter, with each guess's feedback already packed as a pattern code
+    public static List<String> filterCandidates(List<String> candidates, List<String> guesses, int[] codes) {
+        List<String> filtered = new ArrayList<>();
+        int[] scratch = new int[26];
+        outer:
+        for (String w : candidates) {
+            for (int gi = 0; gi < codes.length; gi++)
+                if (!compatible(w, guesses.get(gi), codes[gi], scratch)) continue outer;
+            filtered.add(w);
         }
         return filtered;
     }
 
-    // Check if a word is compatible with the feedback from a previous guess
-    private static boolean compatible(String w, String g, Feedback[] fb) {
-        int L = g.length();
-
-        // Check green letters - must match exactly
-        for (int i = 0; i < L; i++)
-            if (fb[i] == Feedback.GREEN && w.charAt(i) != g.charAt(i))
-                return false;
+    // Same filter by table lookup: returns column indices into matrix.answers() that fit every guess
+    public static int[] filterIndices(PatternMatrix matrix, List<String> guesses, int[] codes) {
+        int[] rows = new int[guesses.size()];
+        for (int gi = 0; gi < rows.length; gi++) rows[gi] = matrix.guessIndex(guesses.get(gi));
 
-        // Check yellow letters - must exist elsewhere in the word
-        Map<Character, Integer> need = new HashMap<>();
-        for (int i = 0; i < L; i++)
-            if (fb[i] == Feedback.YELLOW) {
-                if (w.charAt(i) == g.charAt(i)) return false;
-                need.put(g.charAt(i), need.getOrDefault(g.charAt(i), 0) + 1);
+        int[] out = new int[matrix.answerCount()];
+        int n = 0;
+        outer:
+        for (int a = 0; a < out.length; a++) {
+            for (int gi = 0; gi < rows.length; gi++) {
+                int p = rows[gi] >= 0 ? matrix.pattern(rows[gi], a) : matrix.pattern(guesses.get(gi), a);
+                if (p != codes[gi]) continue outer;
             }
-
-        // Verify yellow letters appear enough times
-        for (var e : need.entrySet()) {
-            int have = 0;
-            for (char c : w.toCharArray())
-                if (c == e.getKey()) have++;
-            if (have < e.getValue()) return false;
+            out[n++] = a;
         }
+        return Arrays.copyOf(out, n);
+    }
 
-        // Check gray letters - should not appear unless already confirmed elsewhere
-        for (int i = 0; i < L; i++)
-            if (fb[i] == Feedback.GRAY) {
-                char c = g.charAt(i);
-                boolean elsewhere = false;
-                for (int j = 0; j < L; j++)
-                    if (j != i && (fb[j] == Feedback.GREEN || fb[j] == Feedback.YELLOW) && g.charAt(j) == c) {
-                        elsewhere = true;
-                        break;
-                    }
-                if (!elsewhere && w.indexOf(c) >= 0)
-                    return false;
-            }
-
-        return true;
+    // A word is compatible with a guess if it would have produced exactly the same feedback
+    private static boolean compatible(String w, String g, int code, int[] scratch) {
+        return FeedbackCode.evaluate(g, w, scratch) == code;
     }
 
     // Choose the best hint word from the remaining candidates
     public static String bestHint(List<String> candidates) {
         if (candidates.isEmpty()) return "(no hint)";
 
-        int L = GameState.WORD_LEN;
-        List<Map<Character, Integer>> pos = new ArrayList<>();
-        for (int i = 0; i < L; i++) pos.add(new HashMap<>());
+        int L = candidates.get(0).length();
+        int[][] pos = new int[L][26];
 
         // Count letter frequency by position
         for (String w : candidates)
-            for (int i = 0; i < L; i++) {
-                char c = w.charAt(i);
-                pos.get(i).put(c, pos.get(i).getOrDefault(c, 0) + 1);
-            }
+            for (int i = 0; i < L; i++)
+                pos[i][FeedbackCode.letter(w.charAt(i))]++;
 
         // Pick the candidate with the highest score based on frequency and uniqueness
         String best = candidates.get(0);
         int bestScore = -1;
         for (String w : candidates) {
             int score = 0;
-            Set<Character> uniq = new HashSet<>();
+            int seen = 0; // bitmask of letters already counted
             for (int i = 0; i < L; i++) {
-                char c = w.charAt(i);
-                score += pos.get(i).getOrDefault(c, 0);
-                if (uniq.add(c)) score += 2; // reward unique letters
+                int c = FeedbackCode.letter(w.charAt(i));
+                score += pos[i][c];
+                if ((seen & (1 << c)) == 0) {
+                    seen |= 1 << c;
+                    score += 2; // reward unique letters
+                }
             }
             if (score > bestScore) {
                 bestScore = score;
@@ -95,4 +92,165 @@ public class HintEngine {
 
         return best.toUpperCase();
     }
+
+    // Multi-board hint over every open board's candidates: a board down to one word is solved outright, otherwise
+    // the letter-frequency pick runs over all boards' candidates together
+    public static String bestJointHint(List<List<String>> boards) {
+        List<String> all = new ArrayList<>();
+        for (List<String> c : boards) {
+            if (c.size() == 1) return c.get(0).toUpperCase();
+            all.addAll(c);
+        }
+        return bestHint(all);
+    }
+
+    // Choose the guess (from every allowed word) whose feedback split of the candidates carries the most information.
+    // Ties on entropy go to the smaller worst-case bucket, then to a word that could itself be the answer.
+    public static String bestEntropyHint(PatternMatrix matrix, int[] candidates) {
+        return bestEntropyHint(matrix, candidates, null);
+    }
+
+    // Same, choosing only among the guesses hard mode's rules allow (null: any valid word). The candidates always
+    // satisfy the rules, so there is always a legal pick.
+    public static String bestEntropyHint(PatternMatrix matrix, int[] candidates, HardModeRules rules) {
+        if (candidates.length == 0) return "(no hint)";
+        // With one or two left, guessing a candidate is always at least as good
+        if (candidates.length <= 2) return matrix.answers().get(candidates[0]);
+
+        boolean[] isCandidate = new boolean[matrix.guessCount()];
+        for (int a : candidates) {
+            int g = matrix.guessIndex(matrix.answers().get(a));
+            if (g >= 0) isCandidate[g] = true;
+        }
+
+        Score best = ForkJoinPool.commonPool().invoke(
+                new EntropyTask(matrix, new int[][] { candidates }, isCandidate, allowedRows(matrix, rules), 0, matrix.guessCount()));
+        return best == null ? matrix.answers().get(candidates[0]) : matrix.guesses().get(best.row);
+    }
+
+    // Entropy hint for several boards at once: a guess scores the sum of its information on every board's
+    // candidate set (the boards' feedback is independent); the worst bucket is the largest on any board.
+    // A board with a single candidate left is solved first.
+    public static String bestJointEntropyHint(PatternMatrix matrix, int[][] boards) {
+        return bestJointEntropyHint(matrix, boards, null);
+    }
+
+    // Same, limited to the guesses hard mode's rules allow (null: any valid word)
+    public static String bestJointEntropyHint(PatternMatrix matrix, int[][] boards, HardModeRules rules) {
+        if (boards.length == 1) return bestEntropyHint(matrix, boards[0], rules);
+        int first = -1;
+        for (int[] c : boards) {
+            if (c.length == 1) return matrix.answers().get(c[0]);
+            if (c.length > 0 && first < 0) first = c[0];
+        }
+        if (first < 0) return "(no hint)";
+
+        boolean[] isCandidate = new boolean[matrix.guessCount()];
+        for (int[] c : boards)
+            for (int a : c) {
+                int g = matrix.guessIndex(matrix.answers().get(a));
+                if (g >= 0) isCandidate[g] = true;
+            }
+
+        Score best = ForkJoinPool.commonPool().invoke(
+                new EntropyTask(matrix, boards, isCandidate, allowedRows(matrix, rules), 0, matrix.guessCount()));
+        return best == null ? matrix.answers().get(first) : matrix.guesses().get(best.row);
+    }
+
+    // Guess rows the rules allow, or null when every row is allowed
+    private static boolean[] allowedRows(PatternMatrix matrix, HardModeRules rules) {
+        if (rules == null) return null;
+        boolean[] allowed = new boolean[matrix.guessCount()];
+        for (int g = 0; g < allowed.length; g++) allowed[g] = rules.allows(matrix.guesses().get(g));
+        return allowed;
+    }
+
+    // Expected information (bits) from playing guess row g against the given candidate columns
+    public static double expectedEntropy(PatternMatrix matrix, int g, int[] candidates) {
+        int[] counts = new int[FeedbackCode.COUNT];
+        for (int a : candidates) counts[matrix.pattern(g, a)]++;
+        return entropy(counts, candidates.length);
+    }
+
+    private static double entropy(int[] counts, int n) {
+        double sum = 0;
+        for (int c : counts)
+            if (c > 0) sum += c * Math.log(c);
+        return (Math.log(n) - sum / n) / Math.log(2);
+    }
+
+    // Score of one guess row; compareTo orders better scores first
+    private static final class Score implements Comparable<Score> {
+        final int row;
+        final double entropy;
+        final int worstBucket;
+        final boolean candidate;
+
+        Score(int row, double entropy, int worstBucket, boolean candidate) {
+            this.row = row;
+            this.entropy = entropy;
+            this.worstBucket = worstBucket;
+            this.candidate = candidate;
+        }
+
+        @Override
+        public int compareTo(Score o) {
+            if (Math.abs(entropy - o.entropy) > 1e-9) return entropy > o.entropy ? -1 : 1;
+            if (worstBucket != o.worstBucket) return Integer.compare(worstBucket, o.worstBucket);
+            if (candidate != o.candidate) return candidate ? -1 : 1;
+            return Integer.compare(row, o.row); // deterministic across runs and thread counts
+        }
+    }
+
+    // Fork-join task that scores a band of guess rows and returns the best one
+    private static final class EntropyTask extends RecursiveTask<Score> {
+        private static final long serialVersionUID = 1L;
+        private static final int ROWS_PER_TASK = 64;
+        private final PatternMatrix matrix;
+        private final int[][] boards;   // candidate columns per board; scores add up across boards
+        private final boolean[] isCandidate;
+        private final boolean[] allowed; // rows hard mode allows; null: all
+        private final int lo, hi;
+
+        EntropyTask(PatternMatrix matrix, int[][] boards, boolean[] isCandidate, boolean[] allowed, int lo, int hi) {
+            this.matrix = matrix;
+            this.boards = boards;
+            this.isCandidate = isCandidate;
+            this.allowed = allowed;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected Score compute() {
+            if (hi - lo > ROWS_PER_TASK) {
+                int mid = (lo + hi) >>> 1;
+                EntropyTask left = new EntropyTask(matrix, boards, isCandidate, allowed, lo, mid);
+                left.fork();
+                Score right = new EntropyTask(matrix, boards, isCandidate, allowed, mid, hi).compute();
+                Score l = left.join();
+                if (l == null) return right;
+                if (right == null) return l;
+                return l.compareTo(right) <= 0 ? l : right;
+            }
+
+            int[] counts = new int[FeedbackCode.COUNT];
+            Score best = null;
+            for (int g = lo; g < hi; g++) {
+                if (allowed != null && !allowed[g]) continue;
+                double bits = 0;
+                int worst = 0;
+                for (int[] candidates : boards) {
+                    if (candidates.length == 0) continue;
+                    Arrays.fill(counts, 0);
+                    for (int a : candidates) counts[matrix.pattern(g, a)]++;
+                    for (int c : counts) worst = Math.max(worst, c);
+                    bits += entropy(counts, candidates.length);
+                }
+                Score s = new Score(g, bits, worst, isCandidate[g]);
+                if (best == null || s.compareTo(best) < 0) best = s;
+            }
+            return best;
+        }
+    }
 }
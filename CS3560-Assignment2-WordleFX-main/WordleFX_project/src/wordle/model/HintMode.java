@@ -0,0 +1,30 @@
+package wordle.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// HintMode Enum - Built-in hint strategies selectable for WordleModel.hint()
+public enum HintMode implements HintStrategy {
+    // Positional letter-frequency score over surviving candidates (fast, original behaviour)
+    HEURISTIC {
+        @Override
+        public String suggest(WordleModel model) {
+            if (model.getState().getBoardCount() == 1) return HintEngine.bestHint(model.remainingCandidates());
+            List<List<String>> open = new ArrayList<>();
+            for (int b = 0; b < model.getState().getBoardCount(); b++)
+                if (!model.getState().isSolved(b)) open.add(model.remainingCandidates(b));
+            return HintEngine.bestJointHint(open);
+        }
+    },
+    // Expected information of the feedback split over every allowed guess, minimax tie-break (summed over the open
+    // boards of a multi-board game). In hard mode only the guesses its rules allow are considered; HEURISTIC needs
+    // no such limit, since it only suggests surviving candidates, which always satisfy the rules.
+    ENTROPY {
+        @Override
+        public String suggest(WordleModel model) {
+            if (!model.getDictionary().supportsPatterns()) return HEURISTIC.suggest(model); // no table for long words
+            HardModeRules rules = model.enforcesHardMode() ? model.hardModeRules() : null;
+            return HintEngine.bestJointEntropyHint(model.getDictionary().patterns(), model.openCandidateSets(), rules);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package wordle.model;
+
+// HintStrategy Interface - Picks the next guess for a game in progress (must not modify the model)
+public interface HintStrategy {
+    String suggest(WordleModel model);
+}
@@ -0,0 +1,146 @@
+package wordle.model;
+
+import java.util.*;
+
+// LetterIndex Class - Inverted index over a word list: one bitset per (position, letter) and per (letter, minimum count)
+public final class LetterIndex {
+    private final List<String> words;
+    private final int len;
+    // at[i][c]: words with letter c at position i
+    private final BitSet[][] at;
+    // atLeast[c][k]: words containing letter c at least k times (k = 1..len)
+    private final BitSet[][] atLeast;
+    private final BitSet all = new BitSet();
+
+    // Build the index for a list of same-length uppercase words (bit i = words.get(i))
+    public LetterIndex(List<String> words, int len) {
+        this.words = words;
+        this.len = len;
+        this.at = new BitSet[len][26];
+        this.atLeast = new BitSet[26][len + 2];
+        for (BitSet[] row : at) for (int c = 0; c < 26; c++) row[c] = new BitSet(words.size());
+        for (BitSet[] row : atLeast) for (int k = 0; k < row.length; k++) row[k] = new BitSet(words.size());
+
+        int[] counts = new int[26];
+        for (int w = 0; w < words.size(); w++) {
+            String s = words.get(w);
+            if (s.length() != len) continue;
+            all.set(w);
+            for (int i = 0; i < len; i++) {
+                int c = FeedbackCode.letter(s.charAt(i));
+                at[i][c].set(w);
+                counts[c]++;
+            }
+            for (int i = 0; i < len; i++) {
+                int c = FeedbackCode.letter(s.charAt(i));
+                for (int k = 1; k <= counts[c]; k++) atLeast[c][k].set(w);
+                counts[c] = 0;
+            }
+        }
+    }
+
+    // The indexed words (bit positions refer to this list)
+    public List<String> words() { return words; }
+
+    // Bits of every indexed word
+    public BitSet all() { return (BitSet) all.clone(); }
+
+    // Words matching a pattern like "C?A?E" ('?', '.', '_' or '*' = any letter), containing every letter in
+    // include (repeat a letter to require it more than once) and none of the letters in exclude. Letters are A-Z in
+    // either case; a letter outside that range (such as an accented one) throws IllegalArgumentException.
+    public BitSet query(String pattern, String include, String exclude) {
+        BitSet out = all();
+        if (pattern != null) {
+            if (pattern.length() != len) return new BitSet();
+            for (int i = 0; i < len; i++) {
+                int c = queryLetter(pattern.charAt(i));
+                if (c >= 0) out.and(at[i][c]);
+            }
+        }
+        if (include != null) {
+            int[] need = new int[26];
+            for (int i = 0; i < include.length(); i++) {
+                int c = queryLetter(include.charAt(i));
+                if (c >= 0) need[c]++;
+            }
+            for (int c = 0; c < 26; c++) {
+                if (need[c] > len) return new BitSet();
+                if (need[c] > 0) out.and(atLeast[c][need[c]]);
+            }
+        }
+        if (exclude != null) {
+            for (int i = 0; i < exclude.length(); i++) {
+                int c = queryLetter(exclude.charAt(i));
+                if (c >= 0) out.andNot(atLeast[c][1]);
+            }
+        }
+        return out;
+    }
+
+    // Letter index of a query character, or -1 for a wildcard or separator
+    private static int queryLetter(char ch) {
+        if ((ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z')) return FeedbackCode.letter(ch);
+        if (Character.isLetter(ch)) throw new IllegalArgumentException("Only the letters A-Z can be searched for, not '" + ch + "'");
+        return -1;
+    }
+
+    // Same query, returned as words
+    public List<String> queryWords(String pattern, String include, String exclude) {
+        return toWords(query(pattern, include, exclude));
+    }
+
+    // Words that would have produced this code for this guess (a few AND/ANDNOT ops per letter)
+    public BitSet matching(String guess, int code) {
+        BitSet out = all();
+        narrow(out, guess, code);
+        return out;
+    }
+
+    // Intersect bits in place with the words consistent with one guess and its code
+    public void narrow(BitSet bits, String guess, int code) {
+        int[] shown = new int[26];   // green + yellow copies of each letter
+        int grayMask = 0;            // letters that also came back gray
+        for (int i = 0, rest = code; i < len; i++, rest /= 3) {
+            int c = FeedbackCode.letter(guess.charAt(i));
+            int d = rest % 3;
+            if (d == FeedbackCode.GREEN) {
+                bits.and(at[i][c]);
+                shown[c]++;
+            } else {
+                bits.andNot(at[i][c]);
+                if (d == FeedbackCode.YELLOW) shown[c]++;
+                else grayMask |= 1 << c;
+            }
+        }
+        for (int c = 0; c < 26; c++) {
+            if (shown[c] > 0) bits.and(atLeast[c][shown[c]]);
+            // A gray copy caps the count at exactly what was shown
+            if ((grayMask & (1 << c)) != 0) bits.andNot(atLeast[c][shown[c] + 1]);
+        }
+    }
+
+    // Keep only the words with letter c at position i
+    public void requireAt(BitSet bits, int pos, int c) {
+        bits.and(at[pos][c]);
+    }
+
+    // Keep only the words containing letter c at least k times
+    public void requireAtLeast(BitSet bits, int c, int k) {
+        if (k > len) bits.clear();
+        else if (k > 0) bits.and(atLeast[c][k]);
+    }
+
+    // Words consistent with a whole guess history
+    public BitSet filter(List<String> guesses, int[] codes) {
+        BitSet out = all();
+        for (int gi = 0; gi < codes.length; gi++) narrow(out, guesses.get(gi), codes[gi]);
+        return out;
+    }
+
+    // Bits -> words, in index order
+    public List<String> toWords(BitSet bits) {
+        List<String> out = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) out.add(words.get(i));
+        return out;
+    }
+}
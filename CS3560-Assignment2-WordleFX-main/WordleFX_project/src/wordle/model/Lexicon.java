@@ -0,0 +1,63 @@
+package wordle.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Lexicon Class - One Dictionary per word length, each loaded (and later indexed) only when a game of that length starts,
+// so offering more lengths costs nothing until they are played. Dictionaries are immutable, so a shard can be swapped
+// for a rebuilt one at any time (publish, used by WordListWatcher): games already started keep the Dictionary they
+// began with, and the next game picks up the new one. Reading a loaded shard takes no lock.
+public class Lexicon {
+    // Word lengths a game can be played with
+    public static final int MIN_LEN = 4, MAX_LEN = 8;
+
+    private final boolean permissive;
+    // Shards by length; null until first use
+    private final AtomicReferenceArray<Dictionary> shards = new AtomicReferenceArray<>(MAX_LEN + 1);
+
+    public Lexicon(boolean permissive) {
+        this.permissive = permissive;
+    }
+
+    // Lexicon around an existing dictionary (its length is served from it; other lengths load normally, as permissive
+    // as it is)
+    public static Lexicon of(Dictionary dict) {
+        Lexicon lex = new Lexicon(dict.isPermissive());
+        lex.publish(dict);
+        return lex;
+    }
+
+    // Dictionary for one word length, loading it on first call (only that first load is serialized)
+    public Dictionary get(int length) {
+        if (length < MIN_LEN || length > MAX_LEN) throw new IllegalArgumentException("Word length must be " + MIN_LEN + "-" + MAX_LEN);
+        Dictionary d = shards.get(length);
+        if (d != null) return d;
+        synchronized (this) {
+            d = shards.get(length);
+            if (d == null) shards.set(length, d = Dictionary.forLength(length, permissive));
+            return d;
+        }
+    }
+
+    // Replace the shard for d's length; returns the one it replaced (null if that length was not loaded)
+    public Dictionary publish(Dictionary d) {
+        if (d.wordLength() < MIN_LEN || d.wordLength() > MAX_LEN) throw new IllegalArgumentException("Word length must be " + MIN_LEN + "-" + MAX_LEN);
+        return shards.getAndSet(d.wordLength(), d);
+    }
+
+    public boolean isPermissive() { return permissive; }
+
+    // Lengths that have a word list (without loading any of them)
+    public List<Integer> availableLengths() {
+        List<Integer> out = new ArrayList<>();
+        for (int len = MIN_LEN; len <= MAX_LEN; len++)
+            if (isLoaded(len) || Dictionary.hasWordList(len)) out.add(len);
+        return out;
+    }
+
+    // Whether the shard for this length has been loaded
+    public boolean isLoaded(int length) {
+        return length >= 0 && length <= MAX_LEN && shards.get(length) != null;
+    }
+}
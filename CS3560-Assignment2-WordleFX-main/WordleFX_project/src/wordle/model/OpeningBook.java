@@ -0,0 +1,171 @@
+package wordle.model;
+
+import java.io.*;
+import java.util.*;
+
+// OpeningBook - Precomputed hints for the first two turns of a classic game
+//
+// For each built-in HintMode the book holds the mode's first hint and, for a few opening guesses (the mode's own
+// first hint plus POPULAR_OPENERS), the hint after every feedback that opener can get. A lookup is an array index,
+// so early hints cost nothing. The book is built offline (gradle openingBook, see wordle.OpeningBookBuilder) and
+// records the Dictionary.fingerprint() of the lists it was built from; a book built from other lists is ignored.
+//
+// File: magic "WBOK", version, fingerprint, wordLength, modeCount, then per mode:
+//   name (UTF), first hint, openerCount, openerCount x { opener, entryCount, entryCount x { code (u16), hint } }
+// with every word as a WordPack int.
+public final class OpeningBook {
+    // Classpath location of the generated book
+    public static final String RESOURCE = "book/opening.bin";
+    // No entries: every lookup misses
+    public static final OpeningBook EMPTY = new OpeningBook(0, 0, Map.of());
+    // First guesses players often pick, covered in addition to each mode's own (skipped if not in the word list)
+    public static final List<String> POPULAR_OPENERS =
+            List.of("CRANE", "SLATE", "ADIEU", "AUDIO", "RAISE", "STARE", "TRACE", "CRATE", "SALET", "ROATE");
+    private static final int MAGIC = 0x57424F4B; // "WBOK"
+    private static final int VERSION = 1;
+
+    // One hint mode's part of the book
+    private static final class Section {
+        final String first;
+        // opener -> hint by feedback code (null where that feedback is impossible or the game is won)
+        final Map<String, String[]> second = new HashMap<>();
+
+        Section(String first) { this.first = first; }
+    }
+
+    private final long fingerprint;
+    private final int wordLength;
+    private final Map<String, Section> sections;
+
+    private OpeningBook(long fingerprint, int wordLength, Map<String, Section> sections) {
+        this.fingerprint = fingerprint;
+        this.wordLength = wordLength;
+        this.sections = sections;
+    }
+
+    // Compute the book for a dictionary by asking each mode exactly what a live game would ask it
+    public static OpeningBook build(Dictionary dict, Collection<HintMode> modes, Collection<String> openers) {
+        Map<String, Section> sections = new LinkedHashMap<>();
+        List<String> answers = dict.allCandidates();
+        WordleModel m = new WordleModel(dict, new Stats());
+        int win = FeedbackCode.allGreen(dict.wordLength());
+        for (HintMode mode : modes) {
+            m.newGame(answers.get(0));
+            Section s = new Section(mode.suggest(m));
+            LinkedHashSet<String> firsts = new LinkedHashSet<>();
+            firsts.add(s.first);
+            for (String o : openers) if (dict.isValidWord(o)) firsts.add(o.toUpperCase());
+            for (String opener : firsts) {
+                String[] byCode = new String[FeedbackCode.count(dict.wordLength())];
+                // Hints depend only on the guess and its feedback, so one answer per distinct feedback is enough
+                for (String a : answers) {
+                    int code = FeedbackCode.evaluate(opener, a);
+                    if (code == win || byCode[code] != null) continue;
+                    m.newGame(a);
+                    m.submitGuess(opener);
+                    String h = mode.suggest(m);
+                    if (dict.isValidWord(h)) byCode[code] = h;
+                }
+                s.second.put(opener, byCode);
+            }
+            sections.put(mode.name(), s);
+        }
+        return new OpeningBook(dict.fingerprint(), dict.wordLength(), sections);
+    }
+
+    // The book's hint for this history, or null when it has none (third turn on, unknown opener or mode)
+    public String lookup(HintMode mode, List<String> guesses, List<Feedback[]> feedback) {
+        Section s = sections.get(mode.name());
+        if (s == null) return null;
+        if (guesses.isEmpty()) return s.first;
+        if (guesses.size() > 1) return null;
+        String[] byCode = s.second.get(guesses.get(0));
+        return byCode == null ? null : byCode[FeedbackCode.encode(feedback.get(0))];
+    }
+
+    // Whether the book was built from exactly this dictionary's lists
+    public boolean matches(Dictionary dict) {
+        return !sections.isEmpty() && fingerprint == dict.fingerprint() && wordLength == dict.wordLength();
+    }
+
+    public long fingerprint() { return fingerprint; }
+
+    // Number of stored hints
+    public int size() {
+        int n = 0;
+        for (Section s : sections.values()) {
+            n++;
+            for (String[] byCode : s.second.values())
+                for (String h : byCode) if (h != null) n++;
+        }
+        return n;
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeInt(MAGIC);
+        dos.writeInt(VERSION);
+        dos.writeLong(fingerprint);
+        dos.writeByte(wordLength);
+        dos.writeInt(sections.size());
+        for (Map.Entry<String, Section> e : sections.entrySet()) {
+            Section s = e.getValue();
+            dos.writeUTF(e.getKey());
+            dos.writeInt((int) WordPack.pack(s.first));
+            dos.writeInt(s.second.size());
+            for (Map.Entry<String, String[]> o : s.second.entrySet()) {
+                String[] byCode = o.getValue();
+                int n = 0;
+                for (String h : byCode) if (h != null) n++;
+                dos.writeInt((int) WordPack.pack(o.getKey()));
+                dos.writeInt(n);
+                for (int code = 0; code < byCode.length; code++) {
+                    if (byCode[code] == null) continue;
+                    dos.writeShort(code);
+                    dos.writeInt((int) WordPack.pack(byCode[code]));
+                }
+            }
+        }
+        dos.flush();
+    }
+
+    public static OpeningBook read(InputStream in) throws IOException {
+        DataInputStream dis = new DataInputStream(new BufferedInputStream(in));
+        if (dis.readInt() != MAGIC) throw new IOException("Not an opening book");
+        int version = dis.readInt();
+        if (version != VERSION) throw new IOException("Unsupported opening book version " + version);
+        long fingerprint = dis.readLong();
+        int len = dis.readUnsignedByte();
+        if (len < 1 || len > WordPack.MAX_INT_LEN) throw new IOException("Bad word length " + len);
+        int codes = FeedbackCode.count(len);
+        Map<String, Section> sections = new LinkedHashMap<>();
+        for (int m = dis.readInt(); m > 0; m--) {
+            String name = dis.readUTF();
+            Section s = new Section(WordPack.unpack(dis.readInt(), len));
+            for (int o = dis.readInt(); o > 0; o--) {
+                String opener = WordPack.unpack(dis.readInt(), len);
+                String[] byCode = new String[codes];
+                for (int n = dis.readInt(); n > 0; n--) {
+                    int code = dis.readUnsignedShort();
+                    if (code >= codes) throw new IOException("Bad feedback code " + code);
+                    byCode[code] = WordPack.unpack(dis.readInt(), len);
+                }
+                s.second.put(opener, byCode);
+            }
+            sections.put(name, s);
+        }
+        return new OpeningBook(fingerprint, len, sections);
+    }
+
+    // The bundled book if present and built from this dictionary's lists, else EMPTY
+    static OpeningBook loadResource(Dictionary dict) {
+        try (InputStream in = OpeningBook.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) return EMPTY;
+            OpeningBook b = read(in);
+            if (b.matches(dict)) return b; // lists changed since the build (or another length): live hints only
+        } catch (IOException e) {
+            System.err.println("opening book: " + e.getMessage());
+        }
+        return EMPTY;
+    }
+}
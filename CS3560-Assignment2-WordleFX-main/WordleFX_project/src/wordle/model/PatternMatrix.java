@@ -0,0 +1,207 @@
+package wordle.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// PatternMatrix Class - Feedback code for every (guess, answer) pair, built in parallel and cached on disk
+public final class PatternMatrix {
+    // File header: magic, version, guess count, answer count, word-list hash
+    private static final int MAGIC = 0x57504D58; // "WPMX"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8;
+    // Guess rows per fork-join leaf task
+    private static final int ROWS_PER_TASK = 32;
+    // Longest word whose feedback codes (3^length) fit the one-byte cells
+    public static final int MAX_WORD_LEN = 5;
+
+    private final List<String> guesses;
+    private final List<String> answers;
+    private final Map<String, Integer> guessIndex;
+    private final Map<String, Integer> answerIndex;
+    private final long hash;
+    // One byte per pair, row-major by guess (heap array or memory-mapped file)
+    private final ByteBuffer data;
+
+    private PatternMatrix(List<String> guesses, List<String> answers, long hash, ByteBuffer data) {
+        this.guesses = guesses;
+        this.answers = answers;
+        this.hash = hash;
+        this.data = data;
+        this.guessIndex = indexOf(guesses);
+        this.answerIndex = indexOf(answers);
+    }
+
+    // Default cache folder (override with -Dwordle.cache.dir=...)
+    public static Path defaultCacheDir() {
+        String dir = System.getProperty("wordle.cache.dir");
+        if (dir != null && !dir.isBlank()) return Paths.get(dir);
+        return Paths.get(System.getProperty("user.home"), ".wordlefx");
+    }
+
+    // Map the cached file for these word lists if it exists, otherwise build it and write the cache. Files are named
+    // patterns-<length>-<hash>.bin; writing a new one deletes the other files of the same word length (lists that
+    // were edited or reloaded since), so the folder holds one table per length rather than one per list version.
+    public static PatternMatrix load(List<String> guesses, List<String> answers, Path cacheDir) {
+        long hash = hashOf(guesses, answers);
+        int len = guesses.isEmpty() ? answers.isEmpty() ? 0 : answers.get(0).length() : guesses.get(0).length();
+        Path file = cacheDir.resolve("patterns-" + len + "-" + Long.toHexString(hash) + ".bin");
+
+        PatternMatrix cached = tryMap(file, guesses, answers, hash);
+        if (cached != null) return cached;
+
+        PatternMatrix built = build(guesses, answers);
+        if (built.writeTo(file)) pruneStale(cacheDir, len, file);
+        return built;
+    }
+
+    // Compute the whole table in memory using the common fork-join pool
+    public static PatternMatrix build(List<String> guesses, List<String> answers) {
+        byte[] table = new byte[guesses.size() * answers.size()];
+        ForkJoinPool.commonPool().invoke(new BuildTask(guesses, answers, table, 0, guesses.size()));
+        return new PatternMatrix(guesses, answers, hashOf(guesses, answers), ByteBuffer.wrap(table));
+    }
+
+    // Feedback code for guess row g against answer column a
+    public int pattern(int g, int a) {
+        return data.get(g * answers.size() + a) & 0xFF;
+    }
+
+    // Feedback code for any guess word (falls back to direct evaluation if it is not a row)
+    public int pattern(String guess, int a) {
+        int g = guessIndex(guess);
+        return g >= 0 ? pattern(g, a) : FeedbackCode.evaluate(guess, answers.get(a));
+    }
+
+    // Row index of a guess, or -1 if it is not in the table
+    public int guessIndex(String word) {
+        Integer i = guessIndex.get(word);
+        return i == null ? -1 : i;
+    }
+
+    // Column index of an answer, or -1 if it is not in the table
+    public int answerIndex(String word) {
+        Integer i = answerIndex.get(word);
+        return i == null ? -1 : i;
+    }
+
+    public List<String> guesses() { return guesses; }
+    public List<String> answers() { return answers; }
+    public int guessCount() { return guesses.size(); }
+    public int answerCount() { return answers.size(); }
+    public long hash() { return hash; }
+
+    // 64-bit FNV-1a over both word lists, used as the cache key
+    public static long hashOf(List<String> guesses, List<String> answers) {
+        long h = 0xcbf29ce484222325L;
+        for (List<String> list : List.of(guesses, answers)) {
+            for (String w : list) {
+                for (int i = 0; i < w.length(); i++) h = (h ^ w.charAt(i)) * 0x100000001b3L;
+                h = (h ^ '\n') * 0x100000001b3L;
+            }
+            h = (h ^ 0xFF) * 0x100000001b3L; // list separator
+        }
+        return h;
+    }
+
+    // Map an existing cache file read-only; null if missing, stale, or unreadable
+    private static PatternMatrix tryMap(Path file, List<String> guesses, List<String> answers, long hash) {
+        if (!Files.isRegularFile(file)) return null;
+        long expected = HEADER_BYTES + (long) guesses.size() * answers.size();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (ch.size() != expected) return null;
+            ByteBuffer map = ch.map(FileChannel.MapMode.READ_ONLY, 0, expected).order(ByteOrder.BIG_ENDIAN);
+            if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION
+                    || map.getInt(8) != guesses.size() || map.getInt(12) != answers.size()
+                    || map.getLong(16) != hash) return null;
+            ByteBuffer body = map.position(HEADER_BYTES).slice();
+            return new PatternMatrix(guesses, answers, hash, body);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // Write header + table to a temp file and move it into place (best effort; a failed write just means a cold start).
+    // Returns whether the file was written.
+    private boolean writeTo(Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), "patterns-", ".tmp");
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+                header.putInt(MAGIC).putInt(VERSION).putInt(guesses.size()).putInt(answers.size()).putLong(hash).flip();
+                while (header.hasRemaining()) ch.write(header);
+                ByteBuffer body = data.duplicate().clear();
+                while (body.hasRemaining()) ch.write(body);
+            }
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // Delete the cache files of other lists of this word length, and files named before the length was part of the
+    // name (best effort: a file another process still has mapped may refuse to go, and is retried next time)
+    private static void pruneStale(Path cacheDir, int len, Path keep) {
+        String sameLength = "patterns-" + len + "-[0-9a-f]+\\.bin", unversioned = "patterns-[0-9a-f]+\\.bin";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(cacheDir, "patterns-*.bin")) {
+            for (Path p : files) {
+                String name = p.getFileName().toString();
+                if (p.equals(keep) || !(name.matches(sameLength) || name.matches(unversioned))) continue;
+                try { Files.deleteIfExists(p); } catch (IOException ignored) {}
+            }
+        } catch (IOException ignored) {}
+    }
+
+    private static Map<String, Integer> indexOf(List<String> words) {
+        Map<String, Integer> idx = new HashMap<>(words.size() * 2);
+        for (int i = 0; i < words.size(); i++) idx.putIfAbsent(words.get(i), i);
+        return idx;
+    }
+
+    // Fork-join task that fills a band of guess rows
+    private static final class BuildTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final List<String> guesses, answers;
+        private final byte[] table;
+        private final int lo, hi;
+
+        BuildTask(List<String> guesses, List<String> answers, byte[] table, int lo, int hi) {
+            this.guesses = guesses;
+            this.answers = answers;
+            this.table = table;
+            this.lo = lo;
+            this.hi = hi;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo <= ROWS_PER_TASK) {
+                int[] scratch = new int[26];
+                int A = answers.size();
+                for (int g = lo; g < hi; g++) {
+                    String guess = guesses.get(g);
+                    int base = g * A;
+                    for (int a = 0; a < A; a++)
+                        table[base + a] = (byte) FeedbackCode.evaluate(guess, answers.get(a), scratch);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new BuildTask(guesses, answers, table, lo, mid),
+                      new BuildTask(guesses, answers, table, mid, hi));
+        }
+    }
+}
@@ -2,35 +2,50 @@ package wordle.model;
 
 import com.google.gson.Gson;
 
-// Stats Class - Tracks player statistics and handles save/load functionality
+import java.util.Arrays;
+
+// Stats Class - Tracks player statistics and handles save/load functionality (updates are synchronized so one instance can be shared across threads)
 public class Stats {
     // Total games played, wins, and streaks
     public int played = 0, wins = 0, currentStreak = 0, bestStreak = 0;
-    // Distribution of wins by number of guesses (1–6)
+    // Distribution of wins by number of guesses (1–6, longer if longer games were won)
     public int[] dist = new int[6];
 
     // Record a win and update streaks and distribution
-    public void recordWin(int n) {
+    public synchronized void recordWin(int n) {
         played++;
         wins++;
         currentStreak++;
         bestStreak = Math.max(bestStreak, currentStreak);
-        if (n >= 1 && n <= 6) dist[n - 1]++;
+        if (n < 1) return;
+        if (n > dist.length) dist = Arrays.copyOf(dist, n); // games with more than six turns
+        dist[n - 1]++;
     }
 
     // Record a loss and reset current streak
-    public void recordLoss() {
+    public synchronized void recordLoss() {
         played++;
         currentStreak = 0;
     }
 
     // Calculate and return win percentage
-    public double winPct() {
+    public synchronized double winPct() {
         return played == 0 ? 0 : (wins * 100.0) / played;
     }
 
+    // Independent copy (for saving on another thread)
+    public synchronized Stats copy() {
+        Stats s = new Stats();
+        s.played = played;
+        s.wins = wins;
+        s.currentStreak = currentStreak;
+        s.bestStreak = bestStreak;
+        s.dist = dist.clone();
+        return s;
+    }
+
     // Convert stats to JSON format for saving
-    public String toJson() {
+    public synchronized String toJson() {
         return new Gson().toJson(this);
     }
 
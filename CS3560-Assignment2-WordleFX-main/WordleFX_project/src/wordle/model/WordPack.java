@@ -0,0 +1,37 @@
+package wordle.model;
+
+// WordPack Class - Packs an A-Z word into a long, 5 bits per letter with the first letter highest (order = alphabetical order
+// among words of the same length). Words of up to 6 letters also fit an int, which the packed word list and save files use.
+public final class WordPack {
+    // Bits used per letter
+    public static final int BITS = 5;
+    // Longest word that fits in a long
+    public static final int MAX_LEN = 12;
+    // Longest word whose packed value fits in an int
+    public static final int MAX_INT_LEN = 6;
+
+    private WordPack() {}
+
+    // Pack a word of A-Z letters (either case); -1 if it is empty, too long, or has any other character
+    public static long pack(CharSequence w) {
+        int len = w.length();
+        if (len == 0 || len > MAX_LEN) return -1;
+        long p = 0;
+        for (int i = 0; i < len; i++) {
+            int c = FeedbackCode.letter(w.charAt(i));
+            if (c < 0 || c >= 26) return -1;
+            p = (p << BITS) | c;
+        }
+        return p;
+    }
+
+    // Unpack a word of the given length
+    public static String unpack(long packed, int len) {
+        char[] out = new char[len];
+        for (int i = len - 1; i >= 0; i--) {
+            out[i] = (char) ('A' + (packed & 31));
+            packed >>>= BITS;
+        }
+        return new String(out);
+    }
+}
@@ -0,0 +1,113 @@
+package wordle.model;
+
+import java.util.*;
+
+// WordTrie - Array-based prefix trie over a sorted list of same-length words (Dictionary.allGuesses())
+//
+// Nodes are numbered breadth-first, so a node's children are contiguous: node n's children are
+// childStart[n] .. childStart[n + 1] - 1, each labelled with its letter. Because the list is sorted, the words under
+// a node are one index range [lo, hi) of it, so a prefix's match count is hi - lo and its completions are a slice of
+// the list. Walking, counting and copying completions allocate nothing; a node at full depth is a valid word.
+public final class WordTrie {
+    // Node of the empty prefix
+    public static final int ROOT = 0;
+
+    private final List<String> words;
+    private final int len;
+    private final int[] childStart;  // node -> first child (length = nodes + 1)
+    private final byte[] letter;     // node -> letter index it was reached by (root: -1)
+    private final byte[] depth;      // node -> prefix length
+    private final int[] lo, hi;      // node -> range of words under it
+
+    // Build from an alphabetically sorted list of uppercase words, all of length len
+    public WordTrie(List<String> words, int len) {
+        this.words = words;
+        this.len = len;
+        int max = 1 + words.size() * len;
+        int[] cs = new int[max + 1], l = new int[max], h = new int[max];
+        byte[] let = new byte[max], dep = new byte[max];
+        let[0] = -1;
+        h[0] = words.size();
+        int size = 1;
+        // The node array is its own BFS queue: children are appended in the order their parents are visited
+        for (int n = 0; n < size; n++) {
+            cs[n] = size;
+            if (dep[n] == len) continue;
+            int d = dep[n];
+            for (int i = l[n]; i < h[n]; ) {
+                char c = words.get(i).charAt(d);
+                int j = i + 1;
+                while (j < h[n] && words.get(j).charAt(d) == c) j++;
+                let[size] = (byte) FeedbackCode.letter(c);
+                dep[size] = (byte) (d + 1);
+                l[size] = i;
+                h[size] = j;
+                size++;
+                i = j;
+            }
+        }
+        cs[size] = size;
+        this.childStart = Arrays.copyOf(cs, size + 1);
+        this.letter = Arrays.copyOf(let, size);
+        this.depth = Arrays.copyOf(dep, size);
+        this.lo = Arrays.copyOf(l, size);
+        this.hi = Arrays.copyOf(h, size);
+    }
+
+    // Child of node reached by letter ch, or -1 (also -1 when node is -1, so walks can be chained)
+    public int step(int node, char ch) {
+        if (node < 0) return -1;
+        int c = Character.toUpperCase(ch) - 'A';
+        if (c < 0 || c >= 26) return -1;
+        for (int k = childStart[node], end = childStart[node + 1]; k < end; k++) {
+            if (letter[k] == c) return k;
+            if (letter[k] > c) break; // children are in letter order
+        }
+        return -1;
+    }
+
+    // Node of a prefix, or -1 when no word starts with it
+    public int find(CharSequence prefix) {
+        int node = ROOT;
+        for (int i = 0; i < prefix.length() && node >= 0; i++) node = step(node, prefix.charAt(i));
+        return node;
+    }
+
+    // Number of words starting with the node's prefix (0 for -1)
+    public int count(int node) {
+        return node < 0 ? 0 : hi[node] - lo[node];
+    }
+
+    // Number of words starting with a prefix
+    public int count(CharSequence prefix) {
+        return count(find(prefix));
+    }
+
+    // Whether the node's prefix is a whole word
+    public boolean isWord(int node) {
+        return node >= 0 && depth[node] == len;
+    }
+
+    // Whether the list contains this word (the by-product of walking it)
+    public boolean contains(CharSequence w) {
+        return w.length() == len && isWord(find(w));
+    }
+
+    // Index (into the word list) of the node's first word, or -1
+    public int first(int node) {
+        return node < 0 ? -1 : lo[node];
+    }
+
+    // Copy up to out.length completions of the node's prefix into out, alphabetically; returns how many
+    public int completions(int node, String[] out) {
+        if (node < 0) return 0;
+        int n = Math.min(out.length, hi[node] - lo[node]);
+        for (int k = 0; k < n; k++) out[k] = words.get(lo[node] + k);
+        return n;
+    }
+
+    public int wordLength() { return len; }
+
+    // Number of nodes (root included)
+    public int size() { return letter.length; }
+}
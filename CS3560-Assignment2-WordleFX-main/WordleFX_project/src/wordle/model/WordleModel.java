@@ -1,40 +1,153 @@
 package wordle.model;
 
+import wordle.util.ModelEvent;
 import wordle.util.ObservableModel;
 import java.util.*;
 
 // WordleModel Class - Handles game logic, validation, scoring, and state updates
 public class WordleModel extends ObservableModel {
-    private final Dictionary dict;   // Word dictionary
+    private final Lexicon lexicon;   // Dictionaries by word length
+    private Dictionary dict;         // Dictionary for the current game's word length
     private final Stats stats;       // Player statistics
     private final GameState state;   // Current game state
+    private final int[] scratch = new int[26]; // Reusable letter counts for evaluateCode
+    private HintMode hintMode = HintMode.HEURISTIC; // Scoring used by hint()
+    private HintCache hintCache = HintCache.shared(); // Built-in hints by position (null = no caching)
+    // Per board: indices into dict.allCandidates() still consistent with every guess so far, and how many
+    private BitSet[] candidates = { new BitSet() };
+    private int[] remaining = new int[1];
+    // One pattern code per board for the guess being scored
+    private int[] codes = new int[1];
+    // Adversarial games: answers per feedback code for the guess being scored (3^length counters)
+    private int[] buckets = new int[0];
+    // Hard mode constraints of board 0, tightened once per guess
+    private HardModeRules hardRules;
+    // Wall-clock start of the current game, and its end once it is over (0 while in progress)
+    private long startedAt = System.currentTimeMillis(), endedAt;
 
     // Constructor - initializes model with dictionary, stats, and random secret word
     public WordleModel(Dictionary dict, Stats stats) {
+        this(Lexicon.of(dict), dict, stats);
+    }
+
+    // Constructor for games of any length the lexicon offers (starts at the default length)
+    public WordleModel(Lexicon lexicon, Stats stats) {
+        this(lexicon, lexicon.get(GameState.WORD_LEN), stats);
+    }
+
+    private WordleModel(Lexicon lexicon, Dictionary dict, Stats stats) {
+        this.lexicon = lexicon;
         this.dict = dict;
         this.stats = stats;
         this.state = new GameState(dict.randomAnswer());
+        rebuildCandidates();
+    }
+
+    // Copy constructor for snapshot(): same dictionary, copied game and candidates, no listeners
+    private WordleModel(WordleModel src) {
+        this.lexicon = src.lexicon;
+        this.dict = src.dict;
+        this.stats = new Stats();
+        this.state = new GameState(src.state);
+        this.hintMode = src.hintMode;
+        this.hintCache = src.hintCache;
+        this.candidates = new BitSet[src.candidates.length];
+        for (int b = 0; b < candidates.length; b++) candidates[b] = (BitSet) src.candidates[b].clone();
+        this.remaining = src.remaining.clone();
+        this.codes = new int[candidates.length];
+        this.hardRules = new HardModeRules(src.hardRules);
+        this.startedAt = src.startedAt;
+        this.endedAt = src.endedAt;
+    }
+
+    // Detached copy of the current game for work on another thread (hints); later moves do not affect it
+    public WordleModel snapshot() {
+        return new WordleModel(this);
     }
 
     // Getters for game state and statistics
     public GameState getState() { return state; }
     public Stats getStats() { return stats; }
+    public Dictionary getDictionary() { return dict; }
+    public Lexicon getLexicon() { return lexicon; }
 
-    // Start a new game with a new random secret word
+    // Start a new game with new random secret words (same length, turns, board count and mode as the last one)
     public void newGame() {
-        state.reset(dict.randomAnswer());
-        notifyListeners();
+        if (state.isAdversarial()) { newAdversarialGame(state.getWordLength(), state.getMaxTurns()); return; }
+        // Pick the secrets from the current lists, not the ones the last game started on (they may have been reloaded)
+        dict = lexicon.get(state.getWordLength());
+        newGame(randomSecrets(dict, state.getBoardCount()));
+    }
+
+    // Start an adversarial (Absurdle) game: every answer stays possible until the feedback rules it out, and each
+    // guess gets the feedback that leaves the most answers standing
+    public void newAdversarialGame(int wordLength, int maxTurns) {
+        Dictionary d = lexicon.get(wordLength);
+        state.setMaxTurns(maxTurns);
+        dict = d;
+        state.reset(d.allCandidates().get(0));
+        state.setAdversarial(true);
+        startedAt = System.currentTimeMillis();
+        endedAt = 0;
+        rebuildCandidates();
+        notifyListeners(ModelEvent.Type.NEW_GAME);
+    }
+
+    // Start a new game with another word length and turn limit (loads that length's words on first use)
+    public void newGame(int wordLength, int maxTurns) {
+        newGame(wordLength, maxTurns, state.getBoardCount());
+    }
+
+    // Start a new game on several boards at once: every guess is played on all of them
+    public void newGame(int wordLength, int maxTurns, int boards) {
+        Dictionary d = lexicon.get(wordLength);
+        List<String> secrets = randomSecrets(d, boards);
+        state.setMaxTurns(maxTurns);
+        dict = d;
+        newGame(secrets);
+    }
+
+    // Start a new game with a chosen secret word (simulations and replays); its length picks the dictionary
+    public void newGame(String secret) {
+        newGame(List.of(secret));
+    }
+
+    // Start a new game with chosen secrets, one board each
+    public void newGame(List<String> secrets) {
+        // Every game starts on the lexicon's current lists for its length (they may have been reloaded since)
+        dict = lexicon.get(secrets.isEmpty() ? dict.wordLength() : secrets.get(0).length());
+        state.reset(secrets);
+        startedAt = System.currentTimeMillis();
+        endedAt = 0;
+        rebuildCandidates();
+        notifyListeners(ModelEvent.Type.NEW_GAME);
+    }
+
+    // Distinct random answers, one per board
+    private static List<String> randomSecrets(Dictionary d, int boards) {
+        if (boards < 1 || boards > GameState.MAX_BOARDS)
+            throw new IllegalArgumentException("A game needs 1 to " + GameState.MAX_BOARDS + " boards");
+        if (boards > d.allCandidates().size())
+            throw new IllegalArgumentException("Not enough " + d.wordLength() + "-letter answers for " + boards + " boards");
+        LinkedHashSet<String> out = new LinkedHashSet<>();
+        while (out.size() < boards) out.add(d.randomAnswer());
+        return new ArrayList<>(out);
     }
 
     // Validate that the guess is a proper 5-letter word from the dictionary
     public boolean isValid(String guess) {
-        return guess != null && guess.length() == GameState.WORD_LEN && dict.isValidWord(guess);
+        return isValid((CharSequence) guess);
+    }
+
+    // Same check on any character buffer, without building a String
+    public boolean isValid(CharSequence guess) {
+        return guess != null && guess.length() == state.getWordLength() && dict.isValidWord(guess);
     }
 
     // Enable or disable hard mode
     public void setHardMode(boolean v) {
         state.setHardMode(v);
-        notifyListeners();
+        notifyListeners(ModelEvent.Type.MODE_CHANGED);
     }
 
     // Submit a player's guess and process the feedback
@@ -43,122 +156,195 @@ public class WordleModel extends ObservableModel {
         guess = guess.toUpperCase();
 
         if (!isValid(guess))
-            throw new IllegalArgumentException("Word must be a valid 5-letter word.");
-        if (state.isHardMode() && !satisfiesHardMode(guess))
+            throw new IllegalArgumentException("Word must be a valid " + state.getWordLength() + "-letter word.");
+        if (enforcesHardMode() && !satisfiesHardMode(guess))
             throw new IllegalArgumentException("Hard mode: reuse revealed letters and positions.");
 
-        // Evaluate the guess and record feedback
-        Feedback[] fb = evaluate(guess, state.getSecret());
+        // Evaluate the guess on every board in one pass, record each board's feedback, and narrow the boards
+        // still open (a solved board's candidates are already just its secret)
+        int boards = state.getBoardCount();
+        int row = state.getGuesses().size();
+        int win = FeedbackCode.allGreen(guess.length());
+        if (state.isAdversarial()) codes[0] = adversarialCode(guess);
+        else FeedbackCode.evaluateAll(guess, state.getSecrets(), codes, scratch);
         state.getGuesses().add(guess);
-        state.getFeedbacks().add(fb);
+        for (int b = 0; b < boards; b++) {
+            state.getBoardFeedbacks(b).add(FeedbackCode.decode(codes[b], guess.length()));
+            if (state.isSolved(b)) continue;
+            narrowCandidates(b, guess, codes[b]);
+            if (codes[b] == win) state.setSolvedAt(b, row);
+        }
+        hardRules.add(guess, codes[0]);
+        // The adversary's "secret" is any word still standing (the guess itself once it has won)
+        if (state.isAdversarial() && codes[0] != win) state.setSecret(dict.allCandidates().get(candidates[0].nextSetBit(0)));
+        else if (state.isAdversarial()) state.setSecret(guess);
 
-        // Update status based on guess results
-        if (guess.equals(state.getSecret())) {
+        // Update status based on guess results (won once every board is solved)
+        if (state.solvedCount() == boards) {
             state.setStatus(GameStatus.WON);
             stats.recordWin(state.getGuesses().size());
-        } else if (state.getGuesses().size() >= GameState.MAX_TURNS) {
+        } else if (state.getGuesses().size() >= state.getMaxTurns()) {
             state.setStatus(GameStatus.LOST);
             stats.recordLoss();
         }
 
         state.setTurn(state.getGuesses().size());
-        notifyListeners();
+        if (state.getStatus() != GameStatus.IN_PROGRESS) endedAt = System.currentTimeMillis();
+        if (state.getStatus() == GameStatus.IN_PROGRESS) notifyListeners(ModelEvent.Type.GUESS_ADDED);
+        else notifyListeners(ModelEvent.Type.GUESS_ADDED, ModelEvent.Type.GAME_OVER);
         return true;
     }
 
     // Evaluate a guess against the secret word and return feedback colors
     public Feedback[] evaluate(String guess, String secret) {
-        int L = GameState.WORD_LEN;
-        Feedback[] res = new Feedback[L];
-        Map<Character, Integer> left = new HashMap<>();
-
-        // Mark greens first and count remaining letters
-        for (int i = 0; i < L; i++) {
-            char s = secret.charAt(i), g = guess.charAt(i);
-            if (g == s) res[i] = Feedback.GREEN;
-            else left.put(s, left.getOrDefault(s, 0) + 1);
-        }
+        return FeedbackCode.decode(evaluateCode(guess, secret), guess.length());
+    }
 
-        // Assign yellow or gray feedback
-        for (int i = 0; i < L; i++) {
-            if (res[i] != Feedback.GREEN) {
-                char g = guess.charAt(i);
-                if (left.getOrDefault(g, 0) > 0) {
-                    res[i] = Feedback.YELLOW;
-                    left.put(g, left.get(g) - 1);
-                } else res[i] = Feedback.GRAY;
-            }
-        }
-        return res;
+    // Evaluate a guess against the secret word and return the packed pattern code (no boxing)
+    public int evaluateCode(String guess, String secret) {
+        return FeedbackCode.evaluate(guess, secret, scratch);
     }
 
-    // Check if the guess follows hard mode rules (reuse revealed hints)
+    // Adversarial step: split the surviving answers by the code this guess would get and keep the largest group
+    // (ties go to the lower code, i.e. more grays). One pass with primitive counters and no per-word allocation.
+    private int adversarialCode(String guess) {
+        int n = FeedbackCode.count(guess.length());
+        if (buckets.length != n) buckets = new int[n];
+        else Arrays.fill(buckets, 0);
+        FeedbackCode.countBuckets(guess, dict.allCandidates(), candidates[0], buckets, scratch);
+        int best = 0;
+        for (int c = 1; c < n; c++) if (buckets[c] > buckets[best]) best = c;
+        return best;
+    }
+
+    // Check if the guess follows hard mode rules (reuse revealed hints). Only classic games enforce it: on several
+    // boards the revealed letters of different boards can contradict each other.
     private boolean satisfiesHardMode(String guess) {
-        List<String> gs = state.getGuesses();
-        List<Feedback[]> fb = state.getFeedbacks();
-        if (gs.isEmpty()) return true;
-
-        final int L = GameState.WORD_LEN;
-
-        // Enforce green letters remain fixed
-        for (int k = 0; k < gs.size(); k++) {
-            String gk = gs.get(k);
-            Feedback[] fk = fb.get(k);
-            for (int i = 0; i < L; i++) {
-                if (fk[i] == Feedback.GREEN && guess.charAt(i) != gk.charAt(i)) {
-                    return false;
-                }
-            }
-        }
+        return hardRules.allows(guess);
+    }
 
-        // Enforce use of all revealed letters
-        Map<Character, Integer> needMax = new HashMap<>();
-        for (int k = 0; k < gs.size(); k++) {
-            String gk = gs.get(k);
-            Feedback[] fk = fb.get(k);
-
-            Map<Character, Integer> rowCount = new HashMap<>();
-            for (int i = 0; i < L; i++) {
-                if (fk[i] == Feedback.GREEN || fk[i] == Feedback.YELLOW) {
-                    char c = gk.charAt(i);
-                    rowCount.merge(c, 1, Integer::sum);
-                }
-            }
-            for (var e : rowCount.entrySet()) {
-                needMax.merge(e.getKey(), e.getValue(), Math::max);
-            }
-        }
+    // Whether guesses are held to hard mode's rules right now (hard mode on, classic game)
+    public boolean enforcesHardMode() {
+        return state.isHardMode() && state.getBoardCount() == 1;
+    }
 
-        Map<Character, Integer> guessCount = new HashMap<>();
-        for (char c : guess.toCharArray()) guessCount.merge(c, 1, Integer::sum);
+    // Hard mode constraints so far (board 0); live, so callers must not keep it across games
+    public HardModeRules hardModeRules() { return hardRules; }
 
-        for (var e : needMax.entrySet()) {
-            if (guessCount.getOrDefault(e.getKey(), 0) < e.getValue()) {
-                return false;
-            }
-        }
-        return true;
-    }
+    // Number of valid guesses hard mode still allows (built on first call, then narrowed per guess)
+    public int legalGuessCount() { return hardRules.legalCount(); }
+
+    // Valid guesses hard mode still allows, in dictionary order
+    public List<String> legalGuesses() { return hardRules.legalGuesses(); }
 
     // Recalculate game status after loading a saved game
     public void recomputeStatusAfterLoad() {
-        if (!state.getGuesses().isEmpty()) {
-            String last = state.getGuesses().get(state.getGuesses().size() - 1);
-            if (last.equals(state.getSecret())) state.setStatus(GameStatus.WON);
-            else if (state.getGuesses().size() >= GameState.MAX_TURNS) state.setStatus(GameStatus.LOST);
-            else state.setStatus(GameStatus.IN_PROGRESS);
-        } else {
-            state.setStatus(GameStatus.IN_PROGRESS);
-        }
+        dict = lexicon.get(state.getWordLength());
+        state.replayBoards();
+        if (!state.getGuesses().isEmpty() && state.solvedCount() == state.getBoardCount()) state.setStatus(GameStatus.WON);
+        else if (state.getGuesses().size() >= state.getMaxTurns()) state.setStatus(GameStatus.LOST);
+        else state.setStatus(GameStatus.IN_PROGRESS);
         state.setTurn(state.getGuesses().size());
-        notifyListeners();
+        // A save does not carry play time; the clock restarts from the load
+        startedAt = System.currentTimeMillis();
+        endedAt = state.getStatus() == GameStatus.IN_PROGRESS ? 0 : startedAt;
+        rebuildCandidates();
+        notifyListeners(ModelEvent.Type.LOADED);
     }
 
-    // Generate a hint using remaining possible candidates
+    // Getter and Setter for the hint scoring mode
+    public HintMode getHintMode() { return hintMode; }
+    public void setHintMode(HintMode m) { hintMode = m; }
+
+    // Generate a hint using the current hint mode
     public String hint() {
-        var cand = HintEngine.filterCandidates(
-                dict.allCandidates(), state.getGuesses(), state.getFeedbacks()
-        );
-        return HintEngine.bestHint(cand);
+        return hint(hintMode);
+    }
+
+    // Generate a hint with the given strategy (built-in HintMode or a custom one). Built-in modes answer the first
+    // two turns of a classic game from the dictionary's opening book when it has the position, and otherwise go
+    // through the hint cache (custom strategies may not be pure functions of the position, so they always run).
+    public String hint(HintStrategy strategy) {
+        if (!(strategy instanceof HintMode mode)) return strategy.suggest(this);
+        if (state.getBoardCount() == 1 && state.getGuesses().size() < 2) {
+            String booked = dict.openingBook().lookup(mode, state.getGuesses(), state.getFeedbacks());
+            // The book is built without hard mode, so its second-turn picks may break the rules
+            if (booked != null && (!enforcesHardMode() || hardRules.allows(booked))) return booked;
+        }
+        HintCache cache = hintCache;
+        if (cache == null) return mode.suggest(this);
+        HintCache.Key key = HintCache.key(dict, mode, state);
+        HintCache.Entry hit = cache.get(key);
+        if (hit != null) return hit.hint;
+        String h = mode.suggest(this);
+        int open = 0, left = 0;
+        for (int b = 0; b < remaining.length; b++)
+            if (!state.isSolved(b)) { open++; left += remaining[b]; }
+        cache.put(key, h, open, left);
+        return h;
+    }
+
+    // Cache for built-in hints (shared across models by default; null turns caching off)
+    public HintCache getHintCache() { return hintCache; }
+    public void setHintCache(HintCache c) { hintCache = c; }
+
+    // Time spent on the current game so far (or in total, once it is over)
+    public long gameDurationMillis() {
+        return (endedAt != 0 ? endedAt : System.currentTimeMillis()) - startedAt;
+    }
+
+    // Number of answers still consistent with the feedback so far (board 0, the only board of a classic game)
+    public int remainingCount() { return remaining[0]; }
+    public int remainingCount(int board) { return remaining[board]; }
+
+    // The surviving answers, in dictionary order (O(remaining))
+    public List<String> remainingCandidates() { return remainingCandidates(0); }
+    public List<String> remainingCandidates(int board) {
+        List<String> all = dict.allCandidates();
+        BitSet bits = candidates[board];
+        List<String> out = new ArrayList<>(remaining[board]);
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) out.add(all.get(i));
+        return out;
+    }
+
+    // Copy of the surviving-candidate bits (indices into Dictionary.allCandidates())
+    public BitSet candidateSet() { return candidateSet(0); }
+    public BitSet candidateSet(int board) { return (BitSet) candidates[board].clone(); }
+
+    // Candidate indices of every board not solved yet (what a multi-board hint has to split)
+    public int[][] openCandidateSets() {
+        int[][] out = new int[state.getBoardCount() - state.solvedCount()][];
+        for (int b = 0, k = 0; b < candidates.length; b++)
+            if (!state.isSolved(b)) out[k++] = candidates[b].stream().toArray();
+        return out;
+    }
+
+    // Drop every surviving answer on one board that would not have produced this code for this guess
+    private void narrowCandidates(int board, String guess, int code) {
+        dict.answerIndex().narrow(candidates[board], guess, code);
+        remaining[board] = candidates[board].cardinality();
+    }
+
+    // Reset every board to the full answer list and replay the current guess history
+    private void rebuildCandidates() {
+        int boards = state.getBoardCount();
+        if (candidates.length != boards) {
+            candidates = new BitSet[boards];
+            for (int b = 0; b < boards; b++) candidates[b] = new BitSet();
+            remaining = new int[boards];
+            codes = new int[boards];
+        }
+        List<String> gs = state.getGuesses();
+        hardRules = new HardModeRules(dict);
+        List<Feedback[]> first = state.getFeedbacks();
+        for (int k = 0; k < gs.size() && k < first.size(); k++) hardRules.add(gs.get(k), FeedbackCode.encode(first.get(k)));
+        for (int b = 0; b < boards; b++) {
+            candidates[b].clear();
+            candidates[b].set(0, dict.allCandidates().size());
+            remaining[b] = candidates[b].cardinality();
+            List<Feedback[]> fbs = state.getBoardFeedbacks(b);
+            for (int k = 0; k < gs.size() && k < fbs.size(); k++)
+                narrowCandidates(b, gs.get(k), FeedbackCode.encode(fbs.get(k)));
+        }
     }
 }
@@ -0,0 +1,328 @@
+package wordle.server;
+
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import wordle.io.WordListWatcher;
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+// GameServer - Headless HTTP server hosting many independent WordleModel sessions over one shared Lexicon
+//
+//   POST   /games                 start a game (?hard=true&length=6&turns=7&boards=4) -> game state
+//                                  (hard=true is refused with 400 when boards > 1: hard mode is one-board only)
+//                                  (?adversarial=true: one Absurdle board, ADVERSARIAL_TURNS unless turns is given)
+//   GET    /games/{id}            current state                    -> game state
+//   POST   /games/{id}/guess      ?word=CRANE (or word as body)    -> game state, 400 on invalid guess
+//   GET    /games/{id}/hint       ?mode=heuristic|entropy          -> {"hint": "..."}
+//   DELETE /games/{id}            drop the session                 -> its last state
+//   GET    /stats                 totals over every finished game
+//   GET    /stats/hints           hint cache size and hit/miss/eviction counters
+//
+// Sessions nobody has touched for the idle TTL are dropped by a background sweep, and at most maxSessions are kept
+// (creating one more answers 503), so abandoned games do not pile up in a long-running server.
+public class GameServer {
+    private static final Gson GSON = new Gson();
+    public static final long DEFAULT_IDLE_TTL_MILLIS = 30 * 60_000L;
+    public static final int DEFAULT_MAX_SESSIONS = 100_000;
+
+    private final Lexicon lexicon;
+    private final long idleTtlMillis;
+    private final int maxSessions;
+    private final LongSupplier clock; // milliseconds; System.currentTimeMillis outside tests
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    // Server-wide totals; each session also keeps its own Stats
+    private final Stats totals = new Stats();
+    private HttpServer http;
+    private ExecutorService executor;
+    private ScheduledExecutorService sweeper;
+
+    // One player's game; all access holds its lock. A ReentrantLock rather than synchronized, so a virtual thread
+    // waiting on it (or computing an entropy hint under it) does not pin its carrier thread.
+    private static final class Session {
+        final WordleModel model;
+        final ReentrantLock lock = new ReentrantLock();
+        volatile long lastUsed;
+        Session(Lexicon lexicon, long now) {
+            model = new WordleModel(lexicon, new Stats());
+            lastUsed = now;
+        }
+    }
+
+    // JSON view of a session
+    private static final class GameJson {
+        String id, status;
+        List<String> guesses;
+        List<Feedback[]> feedback;
+        int turn, maxTurns, wordLength, remaining, boards;
+        boolean hardMode, adversarial;
+        Integer legalGuesses; // hard mode: valid guesses the rules still allow
+        String secret; // only once the game is over
+        List<List<Feedback[]>> boardFeedback; // multi-board games: every board's rows (board 0 is feedback)
+        List<String> secrets;                 // multi-board games, once over
+    }
+
+    public GameServer(Dictionary dict) {
+        this(Lexicon.of(dict));
+    }
+
+    public GameServer(Lexicon lexicon) {
+        this(lexicon, DEFAULT_IDLE_TTL_MILLIS, DEFAULT_MAX_SESSIONS);
+    }
+
+    public GameServer(Lexicon lexicon, long idleTtlMillis, int maxSessions) {
+        this(lexicon, idleTtlMillis, maxSessions, System::currentTimeMillis);
+    }
+
+    // Same, reading idle time from the given millisecond clock (tests advance it instead of sleeping)
+    public GameServer(Lexicon lexicon, long idleTtlMillis, int maxSessions, LongSupplier clock) {
+        if (idleTtlMillis <= 0 || maxSessions <= 0) throw new IllegalArgumentException("TTL and session cap must be positive");
+        this.lexicon = lexicon;
+        this.idleTtlMillis = idleTtlMillis;
+        this.maxSessions = maxSessions;
+        this.clock = clock;
+    }
+
+    // Bind and start serving; port 0 picks a free port. Returns the bound port.
+    public int start(int port) throws IOException {
+        http = HttpServer.create(new InetSocketAddress(port), 1024);
+        executor = newExecutor();
+        http.setExecutor(executor);
+        http.createContext("/games", this::handleGames);
+        http.createContext("/stats", ex -> {
+            if (ex.getRequestURI().getPath().equals("/stats/hints")) send(ex, 200, GSON.toJson(hintCacheJson()));
+            else send(ex, 200, totals.toJson());
+        });
+        http.start();
+        sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "wordle-session-sweep");
+            t.setDaemon(true);
+            return t;
+        });
+        long every = Math.max(1, Math.min(idleTtlMillis / 2, 60_000));
+        sweeper.scheduleWithFixedDelay(this::expireIdle, every, every, TimeUnit.MILLISECONDS);
+        return http.getAddress().getPort();
+    }
+
+    public void stop() {
+        if (http != null) http.stop(0);
+        if (executor != null) executor.shutdownNow();
+        if (sweeper != null) sweeper.shutdownNow();
+    }
+
+    public int sessionCount() { return sessions.size(); }
+
+    // Drop every session idle for longer than the TTL; returns how many went (runs on the sweep thread)
+    public int expireIdle() {
+        long cutoff = clock.getAsLong() - idleTtlMillis;
+        int before = sessions.size();
+        sessions.values().removeIf(s -> s.lastUsed < cutoff && !s.lock.isLocked());
+        return before - sessions.size();
+    }
+
+    // Virtual thread per request on JDK 21+, otherwise a cached platform-thread pool
+    static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private void handleGames(HttpExchange ex) throws IOException {
+        try {
+            String method = ex.getRequestMethod();
+            String[] parts = ex.getRequestURI().getPath().split("/"); // "", "games", id, action
+            Map<String, String> q = query(ex.getRequestURI());
+
+            if (parts.length == 2 && method.equals("POST")) {
+                boolean hard = Boolean.parseBoolean(q.getOrDefault("hard", "false"));
+                if (hard && Integer.parseInt(q.getOrDefault("boards", "1")) > 1) {
+                    error(ex, 400, "Hard mode is only available with one board");
+                    return;
+                }
+                if (sessions.size() >= maxSessions) expireIdle();
+                if (sessions.size() >= maxSessions) {
+                    error(ex, 503, "Too many games in progress");
+                    return;
+                }
+                String id = newId();
+                Session s = new Session(lexicon, clock.getAsLong());
+                if (Boolean.parseBoolean(q.getOrDefault("adversarial", "false"))) {
+                    int length = Integer.parseInt(q.getOrDefault("length", String.valueOf(GameState.WORD_LEN)));
+                    s.model.newAdversarialGame(length, Integer.parseInt(q.getOrDefault("turns", String.valueOf(GameState.ADVERSARIAL_TURNS))));
+                } else if (q.containsKey("length") || q.containsKey("turns") || q.containsKey("boards")) {
+                    int length = Integer.parseInt(q.getOrDefault("length", String.valueOf(GameState.WORD_LEN)));
+                    int boards = Integer.parseInt(q.getOrDefault("boards", "1"));
+                    int turns = q.containsKey("turns") ? Integer.parseInt(q.get("turns"))
+                            : boards == 1 ? GameState.MAX_TURNS : GameState.defaultTurns(length, boards);
+                    s.model.newGame(length, turns, boards);
+                }
+                s.model.setHardMode(hard);
+                sessions.put(id, s);
+                String body;
+                s.lock.lock();
+                try { body = GSON.toJson(view(id, s)); } finally { s.lock.unlock(); }
+                send(ex, 201, body);
+                return;
+            }
+            if (parts.length < 3) { error(ex, 404, "Not found"); return; }
+
+            String id = parts[2];
+            Session s = sessions.get(id);
+            if (s == null) { error(ex, 404, "No such game"); return; }
+            s.lastUsed = clock.getAsLong();
+            String action = parts.length > 3 ? parts[3] : "";
+
+            switch (method + " " + action) {
+                case "GET " -> {
+                    String body;
+                    s.lock.lock();
+                    try { body = GSON.toJson(view(id, s)); } finally { s.lock.unlock(); }
+                    send(ex, 200, body);
+                }
+                case "DELETE " -> {
+                    // Answered with a body: the JDK server closes the connection after a 204, and a pooled client
+                    // that reuses it before noticing fails its next request
+                    sessions.remove(id);
+                    String body;
+                    s.lock.lock();
+                    try { body = GSON.toJson(view(id, s)); } finally { s.lock.unlock(); }
+                    send(ex, 200, body);
+                }
+                case "POST guess" -> {
+                    String word = q.get("word");
+                    if (word == null) word = new String(ex.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).trim();
+                    String body;
+                    s.lock.lock();
+                    try {
+                        if (!s.model.submitGuess(word)) body = null;
+                        else {
+                            recordIfOver(s.model.getState());
+                            body = GSON.toJson(view(id, s));
+                        }
+                    } finally {
+                        s.lock.unlock();
+                    }
+                    if (body == null) error(ex, 409, "Game is over");
+                    else send(ex, 200, body);
+                }
+                case "GET hint" -> {
+                    HintMode mode = HintMode.valueOf(q.getOrDefault("mode", "heuristic").toUpperCase(Locale.ROOT));
+                    String hint;
+                    s.lock.lock();
+                    try { hint = s.model.hint(mode); } finally { s.lock.unlock(); }
+                    send(ex, 200, GSON.toJson(Map.of("hint", hint)));
+                }
+                default -> error(ex, 405, "Unsupported");
+            }
+        } catch (IllegalArgumentException e) {
+            error(ex, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            error(ex, 500, String.valueOf(e));
+        }
+    }
+
+    // Fold a just-finished game into the server totals (Stats methods are synchronized)
+    private void recordIfOver(GameState st) {
+        if (st.getStatus() == GameStatus.WON) totals.recordWin(st.getGuesses().size());
+        else if (st.getStatus() == GameStatus.LOST) totals.recordLoss();
+    }
+
+    private GameJson view(String id, Session s) {
+        GameState st = s.model.getState();
+        GameJson v = new GameJson();
+        v.id = id;
+        v.status = st.getStatus().name();
+        v.guesses = new ArrayList<>(st.getGuesses());
+        v.feedback = new ArrayList<>(st.getFeedbacks());
+        v.turn = st.getTurn();
+        v.maxTurns = st.getMaxTurns();
+        v.wordLength = st.getWordLength();
+        v.remaining = s.model.remainingCount();
+        v.hardMode = st.isHardMode();
+        if (v.hardMode && st.getBoardCount() == 1) v.legalGuesses = s.model.legalGuessCount();
+        v.adversarial = st.isAdversarial();
+        v.boards = st.getBoardCount();
+        if (st.getStatus() != GameStatus.IN_PROGRESS) v.secret = st.getSecret();
+        if (v.boards > 1) {
+            v.boardFeedback = new ArrayList<>(v.boards);
+            for (int b = 0; b < v.boards; b++) v.boardFeedback.add(new ArrayList<>(st.getBoardFeedbacks(b)));
+            if (v.secret != null) v.secrets = new ArrayList<>(st.getSecrets());
+        }
+        return v;
+    }
+
+    private static Map<String, Object> hintCacheJson() {
+        HintCache c = HintCache.shared();
+        return Map.of("size", c.size(), "capacity", c.capacity(), "hits", c.hits(), "misses", c.misses(), "evictions", c.evictions());
+    }
+
+    private String newId() {
+        String id;
+        do { id = Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE); }
+        while (sessions.containsKey(id));
+        return id;
+    }
+
+    private static Map<String, String> query(URI uri) {
+        Map<String, String> out = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) return out;
+        for (String kv : raw.split("&")) {
+            int eq = kv.indexOf('=');
+            if (eq > 0) out.put(kv.substring(0, eq), java.net.URLDecoder.decode(kv.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return out;
+    }
+
+    private static void error(HttpExchange ex, int code, String msg) throws IOException {
+        send(ex, code, GSON.toJson(Map.of("error", msg == null ? "" : msg)));
+    }
+
+    private static void send(HttpExchange ex, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", "application/json");
+        ex.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = ex.getResponseBody()) { out.write(bytes); }
+        }
+        ex.close();
+    }
+
+    // Usage: GameServer [--port 8080] [--watch [assets/words]]   (--watch: reload word lists when they change)
+    public static void main(String[] args) throws IOException {
+        int port = 8080;
+        Path watch = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port")) port = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--watch"))
+                watch = Paths.get(i + 1 < args.length && !args[i + 1].startsWith("--") ? args[++i] : "assets/words");
+        }
+        Lexicon lexicon = new Lexicon(false);
+        GameServer server = new GameServer(lexicon);
+        if (watch != null) {
+            new WordListWatcher(lexicon, watch).start().addListener(d ->
+                    System.out.println("Word lists reloaded: " + d.allGuesses().size() + " " + d.wordLength() + "-letter words"));
+            System.out.println("Watching " + watch.toAbsolutePath() + " for word list changes");
+        }
+        System.out.println("WordleFX server listening on port " + server.start(port));
+    }
+}
@@ -0,0 +1,118 @@
+package wordle.server;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import wordle.model.Dictionary;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+import java.util.concurrent.*;
+
+// LoadGenerator - Simulated players hammering a GameServer; reports throughput and latency percentiles
+// Usage: LoadGenerator [--url http://host:port] [--players 1000] [--games 3]
+// Without --url an in-process server is started on a free port.
+public class LoadGenerator {
+    private static final Gson GSON = new Gson();
+
+    public static void main(String[] args) throws Exception {
+        String url = null;
+        int players = 1000, games = 3;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> url = args[++i];
+                case "--players" -> players = Integer.parseInt(args[++i]);
+                case "--games" -> games = Integer.parseInt(args[++i]);
+                default -> { System.err.println("unknown option " + args[i]); System.exit(2); }
+            }
+        }
+
+        GameServer local = null;
+        if (url == null) {
+            local = new GameServer(new Dictionary(false));
+            url = "http://localhost:" + local.start(0);
+        }
+        try {
+            System.out.print(run(url, players, games));
+        } finally {
+            if (local != null) local.stop();
+        }
+    }
+
+    // Each player plays `games` full games (create, then hint + guess until over, then delete) and records every
+    // request's latency
+    public static String run(String url, int players, int games) throws Exception {
+        ExecutorService pool = GameServer.newExecutor();
+        HttpClient client = HttpClient.newBuilder().executor(pool).build();
+        List<Future<long[]>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int p = 0; p < players; p++) results.add(pool.submit(() -> play(client, url, games)));
+            long[][] parts = new long[players][];
+            int total = 0, errors = 0;
+            for (int p = 0; p < players; p++) {
+                try {
+                    parts[p] = results.get(p).get();
+                } catch (ExecutionException e) {
+                    parts[p] = new long[0];
+                    errors++;
+                }
+                total += parts[p].length;
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            long[] all = new long[total];
+            int n = 0;
+            for (long[] part : parts) { System.arraycopy(part, 0, all, n, part.length); n += part.length; }
+            Arrays.sort(all);
+            return String.format(Locale.ROOT,
+                    "Players: %d  Games each: %d  Failed players: %d%n"
+                    + "Requests: %d in %.2fs  (%.0f req/s)%n"
+                    + "Latency ms  p50: %.2f  p99: %.2f  max: %.2f%n",
+                    players, games, errors, total, seconds, total / Math.max(seconds, 1e-9),
+                    pct(all, 0.50), pct(all, 0.99), all.length == 0 ? 0 : all[all.length - 1] / 1e6);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static long[] play(HttpClient client, String url, int games) throws Exception {
+        long[] lat = new long[games * 16];
+        int n = 0;
+        for (int g = 0; g < games; g++) {
+            long t = System.nanoTime();
+            JsonObject state = call(client, HttpRequest.newBuilder(URI.create(url + "/games")).POST(HttpRequest.BodyPublishers.noBody()));
+            lat[n++] = System.nanoTime() - t;
+            String id = state.get("id").getAsString();
+
+            while ("IN_PROGRESS".equals(state.get("status").getAsString())) {
+                t = System.nanoTime();
+                String hint = call(client, HttpRequest.newBuilder(URI.create(url + "/games/" + id + "/hint")).GET()).get("hint").getAsString();
+                lat[n++] = System.nanoTime() - t;
+
+                t = System.nanoTime();
+                state = call(client, HttpRequest.newBuilder(URI.create(url + "/games/" + id + "/guess?word=" + hint)).POST(HttpRequest.BodyPublishers.noBody()));
+                lat[n++] = System.nanoTime() - t;
+                if (state.has("error")) break;
+            }
+
+            // Finished games are dropped rather than left for the server's idle sweep
+            t = System.nanoTime();
+            client.send(HttpRequest.newBuilder(URI.create(url + "/games/" + id)).DELETE().build(), HttpResponse.BodyHandlers.discarding());
+            lat[n++] = System.nanoTime() - t;
+        }
+        return Arrays.copyOf(lat, n);
+    }
+
+    private static JsonObject call(HttpClient client, HttpRequest.Builder req) throws Exception {
+        HttpResponse<String> res = client.send(req.build(), HttpResponse.BodyHandlers.ofString());
+        return GSON.fromJson(res.body(), JsonObject.class);
+    }
+
+    private static double pct(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
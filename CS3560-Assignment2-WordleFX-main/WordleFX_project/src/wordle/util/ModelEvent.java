@@ -0,0 +1,30 @@
+package wordle.util;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+// ModelEvent - What changed in a model; a coalesced event carries every type that happened since the last delivery
+public final class ModelEvent {
+    public enum Type { CHANGED, NEW_GAME, GUESS_ADDED, GAME_OVER, MODE_CHANGED, LOADED }
+
+    private final Set<Type> types;
+
+    private ModelEvent(EnumSet<Type> types) {
+        this.types = Collections.unmodifiableSet(types);
+    }
+
+    public static ModelEvent of(Type first, Type... rest) {
+        return new ModelEvent(EnumSet.of(first, rest));
+    }
+
+    static ModelEvent of(EnumSet<Type> types) {
+        return new ModelEvent(EnumSet.copyOf(types));
+    }
+
+    public boolean has(Type t) { return types.contains(t); }
+    public Set<Type> types() { return types; }
+
+    @Override
+    public String toString() { return "ModelEvent" + types; }
+}
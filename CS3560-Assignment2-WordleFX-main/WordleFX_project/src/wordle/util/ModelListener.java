@@ -1 +1,13 @@
-package wordle.util; public interface ModelListener { void onModelChanged(); }
+package wordle.util; import java.util.function.Consumer;
+public interface ModelListener {
+    void onModelChanged();
+    // Typed callback; by default just forwards to onModelChanged()
+    default void onModelChanged(ModelEvent event) { onModelChanged(); }
+    // Listener that only cares about the typed event
+    static ModelListener of(Consumer<ModelEvent> c) {
+        return new ModelListener() {
+            @Override public void onModelChanged() {}
+            @Override public void onModelChanged(ModelEvent event) { c.accept(event); }
+        };
+    }
+}
@@ -1,7 +1,38 @@
-
-package wordle.util; import java.util.*;
+package wordle.util; import java.util.*; import java.util.concurrent.CopyOnWriteArrayList; import java.util.concurrent.Executor; import java.util.concurrent.atomic.AtomicLong;
 public abstract class ObservableModel {
-    private final List<ModelListener> listeners=new ArrayList<>();
+    // Copy-on-write so listeners may add/remove themselves (or others) while an event is being delivered
+    private final List<ModelListener> listeners=new CopyOnWriteArrayList<>();
+    // When set, events are merged and delivered at most once per executor tick (e.g. Platform::runLater = once per FX pulse)
+    private volatile Executor coalescer;
+    private final EnumSet<ModelEvent.Type> pending=EnumSet.noneOf(ModelEvent.Type.class);
+    private boolean drainScheduled;
+    // Bumped at once by every notification, even one still waiting to be coalesced
+    private final AtomicLong changes=new AtomicLong();
+
     public void addListener(ModelListener l){listeners.add(l);} public void removeListener(ModelListener l){listeners.remove(l);}
-    protected void notifyListeners(){ for(ModelListener l: listeners) l.onModelChanged(); }
+    public void setDispatchExecutor(Executor e){coalescer=e;}
+    // Number of notifications so far: equal values mean nothing changed in between, whether or not listeners have heard yet
+    public long changeCount(){return changes.get();}
+
+    protected void notifyListeners(){ notifyListeners(ModelEvent.Type.CHANGED); }
+    protected void notifyListeners(ModelEvent.Type first, ModelEvent.Type... rest){
+        changes.incrementAndGet();
+        Executor ex=coalescer;
+        if(ex==null){ deliver(ModelEvent.of(first, rest)); return; }
+        synchronized(pending){
+            pending.add(first); pending.addAll(Arrays.asList(rest));
+            if(drainScheduled) return;
+            drainScheduled=true;
+        }
+        ex.execute(this::drain);
+    }
+
+    // Deliver everything that piled up since the last tick as one event
+    private void drain(){
+        ModelEvent batch;
+        synchronized(pending){ batch=ModelEvent.of(pending); pending.clear(); drainScheduled=false; }
+        deliver(batch);
+    }
+
+    private void deliver(ModelEvent e){ for(ModelListener l: listeners) l.onModelChanged(e); }
 }
@@ -9,42 +9,93 @@ import javafx.scene.text.Text;
 import wordle.model.Feedback;
 
 public class CellView extends StackPane {
-    private final Rectangle rect = new Rectangle(88, 88);   // slightly bigger cells
+    // Paints are parsed once and shared by every cell
+    private static final Color EMPTY_FILL = Color.web("#333");
+    private static final Color EMPTY_STROKE = Color.web("#555");
+    private static final Color ACTIVE_STROKE = Color.web("#58a6ff");
+    private static final Color INVALID_STROKE = Color.web("#f85149"); // active row when no word starts with it
+    private static final Color GREEN_FILL = Color.web("#238636"), GREEN_STROKE = Color.web("#1f6f2c");
+    private static final Color YELLOW_FILL = Color.web("#b3a11c"), YELLOW_STROKE = Color.web("#8a7f14");
+    private static final Color GRAY_FILL = Color.web("#3a3a3c"), GRAY_STROKE = Color.web("#2a2a2c");
+    public static final double SIZE = 88;
+    private static final Font LETTER_FONT = Font.font("Consolas", 30);
+    // One-letter strings for A-Z, so typing does not allocate
+    private static final String[] LETTERS = new String[26];
+    static {
+        for (int i = 0; i < 26; i++) LETTERS[i] = String.valueOf((char) ('A' + i));
+    }
+
+    private final Rectangle rect;
     private final Text letter = new Text("");
     private boolean active = false;
+    private boolean invalid = false;
+    // What is currently shown, so repeated updates with the same value touch no nodes
+    private String shownLetter = "";
+    private Feedback shownFeedback = null;
 
     public CellView() {
+        this(SIZE);
+    }
+
+    // Cell of another size (smaller cells for long words or many turns)
+    public CellView(double size) {
+        rect = new Rectangle(size, size);
         rect.setArcWidth(12);
         rect.setArcHeight(12);
-        rect.setFill(Color.web("#333"));
-        rect.setStroke(Color.web("#555"));
+        rect.setFill(EMPTY_FILL);
+        rect.setStroke(EMPTY_STROKE);
         rect.setStrokeWidth(2.0);
         letter.setFill(Color.WHITE);
-        letter.setFont(Font.font("Consolas", 30));
+        letter.setFont(size == SIZE ? LETTER_FONT : Font.font("Consolas", Math.round(30 * size / SIZE)));
         setAlignment(Pos.CENTER);
         getChildren().addAll(rect, letter);
-        setMinSize(88, 88);
-        setMaxSize(88, 88);
+        setMinSize(size, size);
+        setMaxSize(size, size);
     }
 
     public StackPane getRoot(){ return this; }
-    public void setLetter(String s){ letter.setText(s); }
+
+    public void setLetter(String s){
+        if (s.equals(shownLetter)) return;
+        shownLetter = s;
+        letter.setText(s);
+    }
+
+    // Show a single A-Z letter, or clear the cell for any other char
+    public void setLetter(char c){
+        int i = Character.toUpperCase(c) - 'A';
+        setLetter(i >= 0 && i < 26 ? LETTERS[i] : "");
+    }
 
     public void setFeedback(Feedback fb){
+        if (fb == shownFeedback && fb != null) return;
+        shownFeedback = fb;
         if(fb == null){
-            rect.setFill(Color.web("#333"));
-            rect.setStroke(active ? Color.web("#58a6ff") : Color.web("#555"));
+            rect.setFill(EMPTY_FILL);
+            rect.setStroke(emptyStroke());
             return;
         }
         switch (fb) {
-            case GREEN -> { rect.setFill(Color.web("#238636")); rect.setStroke(Color.web("#1f6f2c")); }
-            case YELLOW -> { rect.setFill(Color.web("#b3a11c")); rect.setStroke(Color.web("#8a7f14")); }
-            case GRAY -> { rect.setFill(Color.web("#3a3a3c")); rect.setStroke(Color.web("#2a2a2c")); }
+            case GREEN -> { rect.setFill(GREEN_FILL); rect.setStroke(GREEN_STROKE); }
+            case YELLOW -> { rect.setFill(YELLOW_FILL); rect.setStroke(YELLOW_STROKE); }
+            case GRAY -> { rect.setFill(GRAY_FILL); rect.setStroke(GRAY_STROKE); }
         }
     }
 
     public void setActive(boolean value) {
+        if (value == active) return;
         this.active = value;
-        rect.setStroke(active ? Color.web("#58a6ff") : Color.web("#555")); // blue focus ring
+        if (shownFeedback == null) rect.setStroke(emptyStroke()); // blue focus ring
+    }
+
+    // Mark an active cell's row as a prefix no valid word starts with (red ring)
+    public void setInvalid(boolean value) {
+        if (value == invalid) return;
+        this.invalid = value;
+        if (shownFeedback == null) rect.setStroke(emptyStroke());
+    }
+
+    private Color emptyStroke() {
+        return !active ? EMPTY_STROKE : invalid ? INVALID_STROKE : ACTIVE_STROKE;
     }
 }
@@ -2,15 +2,19 @@ package wordle.view;
 
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import wordle.model.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class GameView {
     private final BorderPane root = new BorderPane();
 
+    // One GridPane of cells per board, tiled (a classic game has one); many boards scroll
     private final GridPane grid = new GridPane();
+    private final ScrollPane gridScroll = new ScrollPane(grid);
     private final Label status = new Label("");
     private final KeyboardView keyboard = new KeyboardView();
 
@@ -19,12 +23,35 @@ public class GameView {
     public final Button loadBtn = new Button("Load");
     public final Button hintBtn = new Button("Hint");
     public final Button statsBtn = new Button("Stats");
+    public final ComboBox<Integer> lengthBox = new ComboBox<>(); // word length for the next game
+    public final ComboBox<Integer> boardsBox = new ComboBox<>(); // boards for the next game
     public final CheckBox hardMode = new CheckBox("Hard");
+    public final CheckBox absurdle = new CheckBox("Absurdle"); // next game has no fixed secret
+    public final CheckBox smartHint = new CheckBox("Smart");
     public final Button playAgainBtn = new Button("Play Again");
 
     public final Label hintLabel = new Label("");
+    public final Label prefixLabel = new Label(""); // what the typed letters can still become
 
-    private String typedBuffer = "";
+    private CharSequence typedBuffer = "";
+    // Smallest cell on a multi-board game (below this the boards scroll instead of shrinking)
+    private static final double MIN_MULTI_CELL = 18;
+    // Direct cell index [board][row][col] and what each row currently shows, so render only repaints what
+    // changed (rebuilt when a game with another word length, turn limit or board count starts)
+    private CellView[][][] cells = new CellView[0][0][0];
+    private String[][] paintedWords = new String[0][];
+    private Feedback[][][] paintedFeedback = new Feedback[0][][];
+    // Row the typed letters show on, and which boards show it (those not solved yet)
+    private int activeRow = -1;
+    private boolean[] typingOn = new boolean[0];
+    private GameStatus shownStatus = null;
+    // Render timing counters
+    private long renderCount, totalRenderNanos, lastRenderNanos;
+    private int remaining = -1;
+    private int legalGuesses = -1; // hard mode only
+    // Prefix state of the typed letters (see setPrefix): words starting with them, -1 when not tracked
+    private int prefixMatches = -1;
+    private final StringBuilder prefixText = new StringBuilder();
 
     public GameView() {
         root.setStyle("-fx-background-color:#0f0f0f; -fx-text-fill:white;");
@@ -33,8 +60,14 @@ public class GameView {
 
         // === TOP BAR ===
         status.setStyle("-fx-text-fill:#fff; -fx-font-size:18; -fx-font-weight:bold;");
-        HBox left = new HBox(10, newBtn, saveBtn, loadBtn);
-        HBox right = new HBox(10, hardMode, hintBtn, statsBtn, playAgainBtn);
+        lengthBox.setFocusTraversable(false);
+        lengthBox.setTooltip(new Tooltip("Letters per word"));
+        boardsBox.setFocusTraversable(false);
+        boardsBox.setTooltip(new Tooltip("Boards (every guess plays on all of them)"));
+        absurdle.setFocusTraversable(false);
+        absurdle.setTooltip(new Tooltip("No fixed word: every guess gets the feedback that keeps the most words possible"));
+        HBox left = new HBox(10, newBtn, saveBtn, loadBtn, lengthBox, boardsBox, absurdle);
+        HBox right = new HBox(10, hardMode, smartHint, hintBtn, statsBtn, playAgainBtn);
         left.setAlignment(Pos.CENTER_LEFT);
         right.setAlignment(Pos.CENTER_RIGHT);
         Region spacer = new Region();
@@ -45,99 +78,209 @@ public class GameView {
         root.setTop(bar);
 
         // === CENTER (status + grid + hint) ===
-        grid.setHgap(10);
-        grid.setVgap(10);
+        grid.setHgap(18);
+        grid.setVgap(18);
         grid.setAlignment(Pos.CENTER);
+        gridScroll.setFitToWidth(true);
+        gridScroll.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
+        gridScroll.setStyle("-fx-background:#0f0f0f; -fx-background-color:transparent;");
 
-        VBox center = new VBox(16, status, grid, hintLabel);
+        VBox center = new VBox(16, status, gridScroll, prefixLabel, hintLabel);
         center.setAlignment(Pos.CENTER);
         center.setPadding(new Insets(20));
-        VBox.setVgrow(grid, Priority.NEVER);
+        VBox.setVgrow(gridScroll, Priority.NEVER);
         root.setCenter(center);
 
         // === BOTTOM (keyboard) ===
         root.setBottom(keyboard.getRoot());
 
         hintLabel.setStyle("-fx-text-fill:#cfcfcf;");
+        prefixLabel.setStyle("-fx-text-fill:#8b949e;");
         playAgainBtn.setVisible(false);
         playAgainBtn.setManaged(false);
 
-        buildGridCells();
+        buildGridCells(1, GameState.MAX_TURNS, GameState.WORD_LEN);
+    }
+
+    // Boards per row of the tiling (2 -> 2x1, 4 -> 2x2, 8 -> 4x2, 16 -> 4x4); the keyboard splits keys the same way
+    static int boardColumns(int boards) {
+        return boards <= 2 ? boards : boards <= 4 ? 2 : 4;
     }
 
-    private void buildGridCells() {
+    private void buildGridCells(int boards, int rows, int cols) {
         grid.getChildren().clear();
-        for (int r = 0; r < GameState.MAX_TURNS; r++)
-            for (int c = 0; c < GameState.WORD_LEN; c++)
-                grid.add(new CellView().getRoot(), c, r);
+        int bcols = boardColumns(boards), brows = (boards + bcols - 1) / bcols;
+        double gap = boards == 1 ? 10 : 3;
+        // Classic 6 x 5 board keeps full-size cells; bigger boards shrink to fit the window
+        double size = Math.min(CellView.SIZE, Math.min((560.0 - grid.getHgap() * (bcols - 1)) / (cols * bcols) - gap,
+                (600.0 - grid.getVgap() * (brows - 1)) / (rows * brows) - gap));
+        if (boards > 1) size = Math.max(size, MIN_MULTI_CELL);
+        cells = new CellView[boards][rows][cols];
+        paintedWords = new String[boards][rows];
+        paintedFeedback = new Feedback[boards][rows][];
+        typingOn = new boolean[boards];
+        activeRow = -1;
+        for (int b = 0; b < boards; b++) {
+            GridPane board = new GridPane();
+            board.setHgap(gap);
+            board.setVgap(gap);
+            for (int r = 0; r < rows; r++)
+                for (int c = 0; c < cols; c++) {
+                    cells[b][r][c] = new CellView(size);
+                    board.add(cells[b][r][c].getRoot(), c, r);
+                }
+            grid.add(board, b % bcols, b / bcols);
+        }
     }
 
     public void render(GameState state) {
-        // populate past rows
-        for (int r = 0; r < GameState.MAX_TURNS; r++) {
-            for (int c = 0; c < GameState.WORD_LEN; c++) {
-                CellView cell = (CellView) getCell(r, c);
-                cell.setActive(false);
-                if (r < state.getGuesses().size()) {
-                    String g = state.getGuesses().get(r);
-                    Feedback fb = state.getFeedbacks().get(r)[c];
-                    cell.setLetter(String.valueOf(g.charAt(c)));
-                    cell.setFeedback(fb);
-                } else {
-                    cell.setLetter("");
-                    cell.setFeedback(null);
+        long t0 = System.nanoTime();
+        int boards = state.getBoardCount(), rows = state.getMaxTurns(), cols = state.getWordLength();
+        if (cells.length != boards || cells[0].length != rows || cells[0][0].length != cols)
+            buildGridCells(boards, rows, cols);
+
+        // committed rows: repaint only rows whose guess/feedback objects changed (new guess, new game, load);
+        // a solved board stops at the guess that solved it
+        int n = state.getGuesses().size();
+        for (int b = 0; b < boards; b++) {
+            int solved = state.getSolvedAt(b);
+            List<Feedback[]> fbs = state.getBoardFeedbacks(b);
+            for (int r = 0; r < rows; r++) {
+                boolean shown = r < n && (solved < 0 || r <= solved);
+                String g = shown ? state.getGuesses().get(r) : null;
+                Feedback[] fb = shown ? fbs.get(r) : null;
+                if (g == paintedWords[b][r] && fb == paintedFeedback[b][r]) continue;
+                paintedWords[b][r] = g;
+                paintedFeedback[b][r] = fb;
+                for (int c = 0; c < cols; c++) {
+                    CellView cell = cells[b][r][c];
+                    cell.setActive(false);
+                    if (g != null) {
+                        cell.setLetter(g.charAt(c));
+                        cell.setFeedback(fb[c]);
+                    } else {
+                        cell.setLetter("");
+                        cell.setFeedback(null);
+                    }
                 }
             }
         }
 
-        // live typing row
+        // live typing row, on every board still open
         int r = state.getTurn();
-        if (state.getStatus() == GameStatus.IN_PROGRESS && r < GameState.MAX_TURNS) {
-            for (int i = 0; i < GameState.WORD_LEN; i++) {
-                CellView cell = (CellView) getCell(r, i);
-                cell.setActive(true); // <-- highlight active row
-                String ch = i < typedBuffer.length() ? String.valueOf(typedBuffer.charAt(i)) : "";
-                cell.setLetter(ch);
-                if (ch.isEmpty()) cell.setFeedback(null);
+        int newActive = (state.getStatus() == GameStatus.IN_PROGRESS && r < rows) ? r : -1;
+        for (int b = 0; b < boards; b++) {
+            boolean on = newActive >= 0 && !state.isSolved(b);
+            if (typingOn[b] && (activeRow != newActive || !on) && paintedWords[b][activeRow] == null) {
+                for (CellView cell : cells[b][activeRow]) { cell.setActive(false); cell.setLetter(""); }
             }
+            typingOn[b] = on;
         }
+        activeRow = newActive;
+        paintActiveRow();
 
         // status banner color
-        String base = "Turn " + (state.getTurn() + 1) + " / " + GameState.MAX_TURNS + (state.isHardMode() ? " (Hard)" : "");
+        String base = "Turn " + (state.getTurn() + 1) + " / " + rows + (state.isHardMode() && boards == 1 ? " (Hard)" : "");
+        if (boards > 1) base += "  ·  " + state.solvedCount() + " / " + boards + " solved";
+        else if (remaining >= 0) base += "  ·  " + remaining + (remaining == 1 ? " word remains" : " words remain");
+        if (boards == 1 && state.isHardMode() && legalGuesses >= 0)
+            base += "  ·  " + legalGuesses + (legalGuesses == 1 ? " legal guess left" : " legal guesses left");
         switch (state.getStatus()) {
-            case IN_PROGRESS -> {
-                status.setText(base);
-                status.setStyle("-fx-text-fill:#ffffff; -fx-font-size:18; -fx-font-weight:bold;");
-            }
-            case WON -> {
-                status.setText("✔ You won in " + state.getGuesses().size() + "!");
-                status.setStyle("-fx-text-fill:#3fb950; -fx-font-size:18; -fx-font-weight:bold;");
-            }
-            case LOST -> {
-                status.setText("✖ You lost. Word was " + state.getSecret());
-                status.setStyle("-fx-text-fill:#f85149; -fx-font-size:18; -fx-font-weight:bold;");
+            case IN_PROGRESS -> status.setText(base);
+            case WON -> status.setText("✔ You won in " + state.getGuesses().size() + "!");
+            case LOST -> status.setText(state.isAdversarial() ? "✖ Out of turns. It could still have been " + state.getSecret()
+                    : boards == 1 ? "✖ You lost. Word was " + state.getSecret()
+                    : "✖ You lost. Missed " + String.join(", ", unsolved(state)));
+        }
+        if (state.getStatus() != shownStatus) {
+            shownStatus = state.getStatus();
+            switch (shownStatus) {
+                case IN_PROGRESS -> status.setStyle("-fx-text-fill:#ffffff; -fx-font-size:18; -fx-font-weight:bold;");
+                case WON -> status.setStyle("-fx-text-fill:#3fb950; -fx-font-size:18; -fx-font-weight:bold;");
+                case LOST -> status.setStyle("-fx-text-fill:#f85149; -fx-font-size:18; -fx-font-weight:bold;");
             }
         }
 
         hardMode.setSelected(state.isHardMode());
+        hardMode.setDisable(boards > 1); // hard mode applies to classic games only
+        absurdle.setSelected(state.isAdversarial());
         keyboard.render(state);
 
         boolean over = state.getStatus() != GameStatus.IN_PROGRESS;
         playAgainBtn.setVisible(over);
         playAgainBtn.setManaged(over);
         keyboard.getRoot().setDisable(over);
+
+        countRender(t0);
     }
 
-    private Node getCell(int row, int col) {
-        for (Node n : grid.getChildren())
-            if (GridPane.getRowIndex(n) == row && GridPane.getColumnIndex(n) == col)
-                return n;
-        return null;
+    // Keystroke path: only the active row's cells are touched
+    public void renderTyping() {
+        long t0 = System.nanoTime();
+        paintActiveRow();
+        countRender(t0);
     }
 
+    private void paintActiveRow() {
+        if (activeRow < 0) return;
+        for (int b = 0; b < cells.length; b++) {
+            if (!typingOn[b]) continue;
+            CellView[] row = cells[b][activeRow];
+            for (int i = 0; i < row.length; i++) {
+                CellView cell = row[i];
+                cell.setActive(true); // <-- highlight active row
+                cell.setInvalid(prefixMatches == 0);
+                if (i < typedBuffer.length()) cell.setLetter(typedBuffer.charAt(i));
+                else {
+                    cell.setLetter("");
+                    cell.setFeedback(null);
+                }
+            }
+        }
+    }
+
+    // Secrets of the boards not solved (for the game-over banner)
+    private static List<String> unsolved(GameState state) {
+        List<String> out = new ArrayList<>();
+        for (int b = 0; b < state.getBoardCount(); b++)
+            if (!state.isSolved(b)) out.add(state.getSecret(b));
+        return out;
+    }
+
+    private void countRender(long t0) {
+        lastRenderNanos = System.nanoTime() - t0;
+        totalRenderNanos += lastRenderNanos;
+        renderCount++;
+    }
+
+    // Render timing, for checking that typing latency stays flat on slow hardware
+    public long getRenderCount(){ return renderCount; }
+    public long getLastRenderNanos(){ return lastRenderNanos; }
+    public double getAverageRenderMicros(){ return renderCount == 0 ? 0 : totalRenderNanos / 1e3 / renderCount; }
+
     public BorderPane getRoot(){ return root; }
     public KeyboardView getKeyboard(){ return keyboard; }
     public void requestFocusForInput(){ root.requestFocus(); }
     public void setHint(String s){ hintLabel.setText("Hint: " + s); }
-    public void setCurrentBuffer(String s){ typedBuffer = s; }
+    public void setHintPending(){ hintLabel.setText("Hint: thinking…"); }
+    public void clearHint(){ hintLabel.setText(""); }
+    public void setCurrentBuffer(CharSequence s){ typedBuffer = s; }
+    public void setRemaining(int n){ remaining = n; }
+    public void setLegalGuesses(int n){ legalGuesses = n; }
+
+    // Prefix state for the typed letters, shown on the next renderTyping(): how many valid words start with them
+    // (-1 = not tracked), whether they already spell one, and the first n suggestions
+    public void setPrefix(int matches, boolean word, String[] suggestions, int n) {
+        prefixMatches = matches;
+        prefixText.setLength(0);
+        if (matches < 0 || typedBuffer.length() == 0) { /* nothing typed: no line */ }
+        else if (matches == 0) prefixText.append("No valid word starts with ").append(typedBuffer);
+        else if (word) prefixText.append(typedBuffer).append(" is a valid word");
+        else {
+            prefixText.append(matches).append(matches == 1 ? " word starts with " : " words start with ").append(typedBuffer).append(": ");
+            for (int i = 0; i < n; i++) prefixText.append(i == 0 ? "" : ", ").append(suggestions[i]);
+            if (matches > n) prefixText.append(", …");
+        }
+        if (!prefixLabel.getText().contentEquals(prefixText)) prefixLabel.setText(prefixText.toString());
+    }
 }
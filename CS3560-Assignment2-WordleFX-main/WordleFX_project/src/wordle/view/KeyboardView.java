@@ -1,5 +1,6 @@
 package wordle.view;
 
+import javafx.css.PseudoClass;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -7,7 +8,10 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import wordle.model.*;
 
+import java.net.URL;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 public class KeyboardView {
@@ -16,9 +20,32 @@ public class KeyboardView {
     public final Button enterBtn = new Button("ENTER");
     public final Button backBtn = new Button("⌫");
 
+    // Key colors live in the stylesheet; render only flips these pseudo-classes
+    private static final PseudoClass GREEN = PseudoClass.getPseudoClass("green");
+    private static final PseudoClass YELLOW = PseudoClass.getPseudoClass("yellow");
+    private static final PseudoClass GRAY = PseudoClass.getPseudoClass("gray");
+
+    // Key size, and the inline colors of a split key (same as the stylesheet)
+    private static final int KEY_SIZE = 44;
+    private static final String UNKNOWN_COLOR = "#444", GREEN_COLOR = "#238636", YELLOW_COLOR = "#b3a11c", GRAY_COLOR = "#3a3a3c";
+
+    // Buttons by letter index, best feedback seen per board and letter, and what each key currently shows
+    private final Button[] keyButtons = new Button[26];
+    private Feedback[][] best = new Feedback[1][26];
+    private final Feedback[] shown = new Feedback[26];
+    // Multi-board games: each key is split into one tile per board, tiled like the boards on screen, using layered
+    // background colors with insets; the insets depend only on the board count
+    private final String[] shownSplit = new String[26];
+    private String splitInsets = "";
+    // Number of guesses folded into best, and the feedback row of the last one (to spot a new game or load)
+    private int applied = 0;
+    private Feedback[] lastApplied = null;
+
     public KeyboardView() {
         root.setPadding(new Insets(12));
         root.setAlignment(Pos.CENTER);
+        URL css = KeyboardView.class.getResource("/css/wordle.css");
+        if (css != null) root.getStylesheets().add(css.toExternalForm());
 
         String[] rows = {"QWERTYUIOP","ASDFGHJKL","ZXCVBNM"};
         for (int i=0;i<rows.length;i++){
@@ -26,9 +53,11 @@ public class KeyboardView {
             row.setAlignment(Pos.CENTER);
             for (char ch: rows[i].toCharArray()){
                 Button b = new Button(String.valueOf(ch));
-                b.setPrefWidth(44); b.setPrefHeight(44);
+                b.setPrefWidth(KEY_SIZE); b.setPrefHeight(KEY_SIZE);
                 b.setFocusTraversable(false); // <-- prevents focus stealing
+                b.getStyleClass().add("key");
                 keys.put(ch, b);
+                keyButtons[ch - 'A'] = b;
                 row.getChildren().add(b);
             }
             if(i==2){
@@ -44,25 +73,96 @@ public class KeyboardView {
     public VBox getRoot(){ return root; }
     public Map<Character,Button> getKeys(){ return keys; }
 
+    // Fold in only guesses committed since the last render; a shorter or different history (new game, load) or
+    // another board count starts over
     public void render(GameState state){
-        Map<Character,Feedback> best = new HashMap<>();
-        for (int r=0;r<state.getGuesses().size();r++){
-            String g = state.getGuesses().get(r);
-            Feedback[] fb = state.getFeedbacks().get(r);
-            for (int i=0;i<g.length();i++){
-                char c = g.charAt(i);
-                Feedback f = fb[i], prev = best.get(c);
-                if(prev==Feedback.GREEN || f==prev) continue;
-                if(prev==null || (prev==Feedback.GRAY && f!=Feedback.GRAY) || (prev==Feedback.YELLOW && f==Feedback.GREEN)) best.put(c,f);
+        List<String> guesses = state.getGuesses();
+        List<Feedback[]> fbs = state.getFeedbacks();
+        int n = guesses.size(), boards = state.getBoardCount();
+        int dirty = 0; // bit per letter whose best feedback changed on some board
+        if (boards != best.length) {
+            best = new Feedback[boards][26];
+            splitInsets = boards > 1 ? insets(boards) : "";
+            applied = 0;
+            dirty = (1 << 26) - 1;
+        } else if (n < applied || (applied > 0 && fbs.get(applied - 1) != lastApplied)) {
+            for (Feedback[] row : best) Arrays.fill(row, null);
+            applied = 0;
+            dirty = (1 << 26) - 1;
+        }
+        for (; applied < n; applied++) {
+            String g = guesses.get(applied);
+            for (int b = 0; b < boards; b++) {
+                int solved = state.getSolvedAt(b);
+                if (solved >= 0 && solved < applied) continue; // a solved board keeps the colors it ended with
+                Feedback[] fb = state.getBoardFeedbacks(b).get(applied);
+                Feedback[] bb = best[b];
+                for (int i = 0; i < g.length(); i++) {
+                    int c = FeedbackCode.letter(g.charAt(i));
+                    if (c >= 0 && c < 26 && rank(fb[i]) > rank(bb[c])) { bb[c] = fb[i]; dirty |= 1 << c; }
+                }
+            }
+            lastApplied = fbs.get(applied);
+        }
+
+        if (boards == 1) {
+            // Pseudo-class switches only for keys whose state actually changed
+            for (int c = 0; c < 26; c++) {
+                if (shownSplit[c] != null) { keyButtons[c].setStyle(""); shownSplit[c] = null; }
+                if (best[0][c] == shown[c]) continue;
+                Button b = keyButtons[c];
+                if (shown[c] != null) b.pseudoClassStateChanged(pseudoClassOf(shown[c]), false);
+                if (best[0][c] != null) b.pseudoClassStateChanged(pseudoClassOf(best[0][c]), true);
+                shown[c] = best[0][c];
+            }
+        } else {
+            // Split keys: rebuild the inline style only for letters some board just learned something about
+            for (int c = 0; c < 26; c++) {
+                if (shown[c] != null) { keyButtons[c].pseudoClassStateChanged(pseudoClassOf(shown[c]), false); shown[c] = null; }
+                if ((dirty & (1 << c)) == 0) continue;
+                String style = splitStyle(c);
+                if (style.equals(shownSplit[c])) continue;
+                keyButtons[c].setStyle(style);
+                shownSplit[c] = style;
             }
         }
-        for (var e: keys.entrySet()){
-            Feedback f = best.get(e.getKey());
-            String style = "-fx-background-color:#444; -fx-text-fill:white;";
-            if(f==Feedback.GREEN) style="-fx-background-color:#238636; -fx-text-fill:white;";
-            else if(f==Feedback.YELLOW) style="-fx-background-color:#b3a11c; -fx-text-fill:white;";
-            else if(f==Feedback.GRAY) style="-fx-background-color:#3a3a3c; -fx-text-fill:white;";
-            e.getValue().setStyle(style);
+    }
+
+    private String splitStyle(int c){
+        StringBuilder sb = new StringBuilder(64 + 10 * best.length).append("-fx-background-color: ");
+        for (int b = 0; b < best.length; b++) {
+            if (b > 0) sb.append(", ");
+            sb.append(colorOf(best[b][c]));
         }
+        return sb.append("; -fx-background-insets: ").append(splitInsets).append("; -fx-background-radius: 0;").toString();
+    }
+
+    // Insets placing board b's tile at its spot in a KEY_SIZE square tiled like GameView's boards
+    private static String insets(int boards){
+        int cols = GameView.boardColumns(boards), rows = (boards + cols - 1) / cols;
+        StringBuilder sb = new StringBuilder();
+        for (int b = 0; b < boards; b++) {
+            int col = b % cols, row = b / cols;
+            long top = Math.round(KEY_SIZE * row / (double) rows), bottom = KEY_SIZE - Math.round(KEY_SIZE * (row + 1) / (double) rows);
+            long left = Math.round(KEY_SIZE * col / (double) cols), right = KEY_SIZE - Math.round(KEY_SIZE * (col + 1) / (double) cols);
+            if (b > 0) sb.append(", ");
+            sb.append(top).append(' ').append(right).append(' ').append(bottom).append(' ').append(left);
+        }
+        return sb.toString();
+    }
+
+    private static String colorOf(Feedback f){
+        if (f == null) return UNKNOWN_COLOR;
+        return switch (f) { case GREEN -> GREEN_COLOR; case YELLOW -> YELLOW_COLOR; case GRAY -> GRAY_COLOR; };
+    }
+
+    // GREEN beats YELLOW beats GRAY beats unknown
+    private static int rank(Feedback f){
+        if (f == null) return 0;
+        return switch (f) { case GRAY -> 1; case YELLOW -> 2; case GREEN -> 3; };
+    }
+
+    private static PseudoClass pseudoClassOf(Feedback f){
+        return switch (f) { case GREEN -> GREEN; case YELLOW -> YELLOW; case GRAY -> GRAY; };
     }
 }
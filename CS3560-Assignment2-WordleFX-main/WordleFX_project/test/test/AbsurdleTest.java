@@ -0,0 +1,101 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
+
+import wordle.io.GameIO;
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+public class AbsurdleTest {
+
+    @Test
+    public void testKeepsTheLargestBucket() {
+        Dictionary d = new Dictionary();
+        WordleModel m = new WordleModel(d, new Stats());
+        m.newAdversarialGame(5, GameState.ADVERSARIAL_TURNS);
+        for (String g : List.of("CRANE", "MOUNT", "SPLIT")) {
+            List<String> before = m.remainingCandidates();
+            // Brute force: group the survivors by feedback and find the biggest group
+            int[] size = new int[FeedbackCode.count(5)];
+            for (String w : before) size[FeedbackCode.evaluate(g, w)]++;
+            int best = 0;
+            for (int c = 1; c < size.length; c++) if (size[c] > size[best]) best = c;
+
+            m.submitGuess(g);
+            List<Feedback[]> fb = m.getState().getFeedbacks();
+            assertEquals(g, best, FeedbackCode.encode(fb.get(fb.size() - 1)));
+            assertEquals(size[best], m.remainingCount());
+        }
+        // The stand-in secret agrees with every feedback given so far
+        GameState st = m.getState();
+        for (int k = 0; k < st.getGuesses().size(); k++)
+            assertEquals(FeedbackCode.encode(st.getFeedbacks().get(k)), FeedbackCode.evaluate(st.getGuesses().get(k), st.getSecret()));
+        assertTrue(m.remainingCandidates().contains(st.getSecret()));
+    }
+
+    @Test
+    public void testCountBucketsOnlyCountsSelectedWords() {
+        List<String> words = List.of("CRANE", "SLATE", "MOUNT", "COUNT", "CRATE");
+        BitSet which = new BitSet();
+        which.set(1, 4);
+        int[] buckets = new int[FeedbackCode.count(5)];
+        FeedbackCode.countBuckets("COUNT", words, which, buckets, new int[26]);
+        assertEquals(1, buckets[FeedbackCode.evaluate("COUNT", "SLATE")]);
+        assertEquals(1, buckets[FeedbackCode.evaluate("COUNT", "MOUNT")]);
+        assertEquals(1, buckets[FeedbackCode.allGreen(5)]);
+        int total = 0;
+        for (int b : buckets) total += b;
+        assertEquals(3, total);
+    }
+
+    @Test
+    public void testWinOnceOneWordIsLeft() {
+        List<String> words = List.of("CRANE", "SLATE", "PLATE");
+        WordleModel m = new WordleModel(new Dictionary(words, words), new Stats());
+        m.newAdversarialGame(5, GameState.ADVERSARIAL_TURNS);
+        // CRANE splits {CRANE}, {SLATE, PLATE}: the adversary keeps the pair
+        m.submitGuess("CRANE");
+        assertEquals(2, m.remainingCount());
+        assertEquals(GameStatus.IN_PROGRESS, m.getState().getStatus());
+        // PLATE splits {PLATE}, {SLATE}: a tie, kept on the lower code (the miss)
+        m.submitGuess("PLATE");
+        assertEquals(List.of("SLATE"), m.remainingCandidates());
+        m.submitGuess("SLATE");
+        assertEquals(GameStatus.WON, m.getState().getStatus());
+        assertEquals("SLATE", m.getState().getSecret());
+        // A plain newGame stays adversarial
+        m.newGame();
+        assertTrue(m.getState().isAdversarial());
+        assertEquals(3, m.remainingCount());
+        m.newGame("CRANE");
+        assertFalse(m.getState().isAdversarial());
+    }
+
+    @Test
+    public void testSaveRoundTripStaysAdversarial() throws Exception {
+        Dictionary d = new Dictionary();
+        for (String name : List.of("absurdle.json", "absurdle.wsav")) {
+            WordleModel m = new WordleModel(d, new Stats());
+            m.newAdversarialGame(5, GameState.ADVERSARIAL_TURNS);
+            m.submitGuess("CRANE");
+            m.submitGuess("MOUNT");
+            Path p = Files.createTempDirectory("wordle-absurdle").resolve(name);
+            GameIO.save(m.getState(), m.getStats(), p);
+
+            WordleModel back = new WordleModel(d, new Stats());
+            GameIO.loadInto(back, p);
+            assertTrue(name, back.getState().isAdversarial());
+            assertEquals(GameState.ADVERSARIAL_TURNS, back.getState().getMaxTurns());
+            assertEquals(m.remainingCandidates(), back.remainingCandidates());
+            m.submitGuess("SPLIT");
+            back.submitGuess("SPLIT");
+            assertEquals(m.remainingCandidates(), back.remainingCandidates());
+        }
+    }
+}
@@ -1,3 +1,7 @@
 
 package test; import org.junit.Test; import static org.junit.Assert.*; import wordle.model.Dictionary;
-public class DictionaryTest { @Test public void testValidCaseInsensitive(){ Dictionary d=new Dictionary(); assertTrue(d.isValidWord("crane")); assertTrue(d.isValidWord("CRANE")); assertFalse(d.isValidWord("xxxxx")); } }
+public class DictionaryTest { @Test public void testValidCaseInsensitive(){ Dictionary d=new Dictionary(); assertTrue(d.isValidWord("crane")); assertTrue(d.isValidWord("CRANE")); assertFalse(d.isValidWord("xxxxx")); }
+    @Test public void testPatternQuery(){ Dictionary d=new Dictionary(java.util.List.of("CRANE","CRAVE","CRATE","CHAFE","GRACE"), java.util.List.of("CRANE")); assertEquals(java.util.List.of("CRANE","CRAVE"), d.query("C?A?E","R","TS")); assertEquals(java.util.List.of("CHAFE","CRANE","CRATE","CRAVE"), d.query("c????", null, null)); assertTrue(d.query("CR???","RR",null).isEmpty()); }
+    @Test public void testQueryRefusesNonAsciiLetters(){ Dictionary d=new Dictionary(java.util.List.of("CRANE","CRAVE"), java.util.List.of("CRANE")); for (String[] q : new String[][]{ {"CR\u00c9??",null,null}, {null,"\u00df",null}, {null,null,"\u00e9"} }) { try { d.query(q[0],q[1],q[2]); fail("expected non-ASCII letters to be refused"); } catch(IllegalArgumentException e){ assertTrue(e.getMessage().contains("A-Z")); } } assertEquals(java.util.List.of("CRANE","CRAVE"), d.query("CR-?E", "1", null)); }
+    @Test public void testPackedRoundTrip() throws Exception { Dictionary d=new Dictionary(java.util.List.of("crane","SLATE","crane","bad!!"), java.util.List.of("TRACE","slate")); assertEquals(java.util.List.of("CRANE","SLATE","TRACE"), d.allGuesses()); var out=new java.io.ByteArrayOutputStream(); d.writePacked(out); Dictionary p=Dictionary.loadPacked(new java.io.ByteArrayInputStream(out.toByteArray()), false); assertEquals(d.allGuesses(), p.allGuesses()); assertEquals(java.util.List.of("SLATE","TRACE"), p.allCandidates()); assertTrue(p.isValidWord("crane")); assertNull(Dictionary.loadPacked(new java.io.ByteArrayInputStream(new byte[]{1,2,3}), false)); }
+    @Test public void testValidatesCharSequenceBuffers(){ Dictionary d=new Dictionary(java.util.List.of("CRANE","SLATE"), java.util.List.of("CRANE")); StringBuilder sb=new StringBuilder("cRaNe"); assertTrue(d.isValidWord(sb)); sb.setLength(4); assertFalse(d.isValidWord(sb)); assertFalse(d.isValidWord("CRAN3")); assertEquals(1, d.guessIndex("slate")); assertEquals(-1, d.guessIndex("TRACE")); assertTrue(new Dictionary(true).isValidWord(new StringBuilder("QQQQQ"))); assertFalse(new Dictionary(true).isValidWord("QQQQ!")); } }
@@ -0,0 +1,41 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import wordle.model.Dictionary;
+import wordle.model.Feedback;
+import wordle.model.FeedbackCode;
+import wordle.model.Stats;
+import wordle.model.WordleModel;
+
+public class FeedbackCodeTest {
+
+    @Test
+    public void testCodeMatchesFeedbackArray() {
+        WordleModel m = new WordleModel(new Dictionary(), new Stats());
+        String[][] pairs = { {"CRATE", "TRACE"}, {"LLAMA", "HELLO"}, {"HELLO", "HELLO"}, {"ZYXWV", "TRACE"}, {"EERIE", "THREE"} };
+        for (String[] p : pairs) {
+            int code = m.evaluateCode(p[0], p[1]);
+            assertArrayEquals(m.evaluate(p[0], p[1]), FeedbackCode.decode(code, 5));
+            assertEquals(code, FeedbackCode.encode(m.evaluate(p[0], p[1])));
+        }
+    }
+
+    @Test
+    public void testAllGreenAndAllGray() {
+        assertEquals(FeedbackCode.allGreen(5), FeedbackCode.evaluate("HELLO", "HELLO"));
+        assertEquals(0, FeedbackCode.evaluate("ZYXWV", "TRACE"));
+        assertEquals(242, FeedbackCode.allGreen(5));
+    }
+
+    @Test
+    public void testDuplicateLetterYellowsAreCounted() {
+        // THREE has one E left after the green, so only the first spare E in EERIE is yellow
+        Feedback[] fb = FeedbackCode.decode(FeedbackCode.evaluate("EERIE", "THREE"), 5);
+        assertEquals(Feedback.YELLOW, fb[0]);
+        assertEquals(Feedback.GRAY, fb[1]);
+        assertEquals(Feedback.GREEN, fb[2]);
+        assertEquals(Feedback.GREEN, fb[4]);
+    }
+}
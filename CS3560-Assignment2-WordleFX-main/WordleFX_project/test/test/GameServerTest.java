@@ -0,0 +1,110 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.atomic.AtomicLong;
+
+import wordle.model.Dictionary;
+import wordle.model.Lexicon;
+import wordle.server.GameServer;
+import wordle.server.LoadGenerator;
+
+public class GameServerTest {
+
+    @Test
+    public void testCreateGuessAndFetch() throws Exception {
+        GameServer server = new GameServer(new Dictionary(false));
+        String url = "http://localhost:" + server.start(0);
+        HttpClient client = HttpClient.newHttpClient();
+        Gson gson = new Gson();
+        try {
+            HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(url + "/games"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, created.statusCode());
+            String id = gson.fromJson(created.body(), JsonObject.class).get("id").getAsString();
+
+            HttpResponse<String> bad = client.send(HttpRequest.newBuilder(URI.create(url + "/games/" + id + "/guess?word=QQQQQ"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, bad.statusCode());
+
+            client.send(HttpRequest.newBuilder(URI.create(url + "/games/" + id + "/guess"))
+                    .POST(HttpRequest.BodyPublishers.ofString("crane")).build(), HttpResponse.BodyHandlers.ofString());
+            JsonObject state = gson.fromJson(client.send(HttpRequest.newBuilder(URI.create(url + "/games/" + id)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body(), JsonObject.class);
+            assertEquals(1, state.getAsJsonArray("guesses").size());
+            assertEquals(1, server.sessionCount());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testIdleSessionsExpireAndTheCapHolds() throws Exception {
+        AtomicLong now = new AtomicLong(1_000_000);
+        GameServer server = new GameServer(Lexicon.of(new Dictionary(false)), 2_000, 2, now::get);
+        String url = "http://localhost:" + server.start(0);
+        HttpClient client = HttpClient.newHttpClient();
+        Gson gson = new Gson();
+        try {
+            HttpRequest create = HttpRequest.newBuilder(URI.create(url + "/games")).POST(HttpRequest.BodyPublishers.noBody()).build();
+            String id = gson.fromJson(client.send(create, HttpResponse.BodyHandlers.ofString()).body(), JsonObject.class).get("id").getAsString();
+            assertEquals(201, client.send(create, HttpResponse.BodyHandlers.ofString()).statusCode());
+            // Both sessions are fresh: a third is refused
+            assertEquals(503, client.send(create, HttpResponse.BodyHandlers.ofString()).statusCode());
+            assertEquals(0, server.expireIdle());
+
+            // Once idle past the TTL they go, and there is room again
+            now.addAndGet(2_000);
+            assertEquals(0, server.expireIdle());
+            now.addAndGet(1);
+            assertEquals(2, server.expireIdle());
+            assertEquals(0, server.sessionCount());
+            assertEquals(404, client.send(HttpRequest.newBuilder(URI.create(url + "/games/" + id)).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).statusCode());
+            assertEquals(201, client.send(create, HttpResponse.BodyHandlers.ofString()).statusCode());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testHardModeNeedsOneBoard() throws Exception {
+        GameServer server = new GameServer(new Dictionary(false));
+        String url = "http://localhost:" + server.start(0);
+        HttpClient client = HttpClient.newHttpClient();
+        try {
+            HttpResponse<String> res = client.send(HttpRequest.newBuilder(URI.create(url + "/games?hard=true&boards=4"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(400, res.statusCode());
+            assertTrue(res.body(), res.body().contains("one board"));
+            assertEquals(0, server.sessionCount());
+            res = client.send(HttpRequest.newBuilder(URI.create(url + "/games?hard=true&boards=1"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(201, res.statusCode());
+            assertTrue(new Gson().fromJson(res.body(), JsonObject.class).get("hardMode").getAsBoolean());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testLoadGeneratorDeletesItsGames() throws Exception {
+        GameServer server = new GameServer(new Dictionary(false));
+        String url = "http://localhost:" + server.start(0);
+        try {
+            String report = LoadGenerator.run(url, 4, 2);
+            assertTrue(report, report.contains("Failed players: 0"));
+            assertEquals(0, server.sessionCount());
+        } finally {
+            server.stop();
+        }
+    }
+}
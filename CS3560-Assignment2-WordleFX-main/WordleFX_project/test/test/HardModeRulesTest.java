@@ -0,0 +1,99 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+public class HardModeRulesTest {
+
+    // The rules as stated, replayed from the whole history
+    private static boolean reference(List<String> guesses, List<Integer> codes, String guess) {
+        int[] need = new int[26];
+        for (int k = 0; k < guesses.size(); k++) {
+            int[] row = new int[26];
+            int code = codes.get(k);
+            for (int i = 0; i < guess.length(); i++, code /= 3) {
+                int c = guesses.get(k).charAt(i) - 'A';
+                if (code % 3 == FeedbackCode.GREEN && guess.charAt(i) != guesses.get(k).charAt(i)) return false;
+                if (code % 3 != FeedbackCode.GRAY) row[c]++;
+            }
+            for (int c = 0; c < 26; c++) need[c] = Math.max(need[c], row[c]);
+        }
+        int[] have = new int[26];
+        for (int i = 0; i < guess.length(); i++) have[guess.charAt(i) - 'A']++;
+        for (int c = 0; c < 26; c++) if (have[c] < need[c]) return false;
+        return true;
+    }
+
+    @Test
+    public void testMatchesReplayedRules() {
+        Dictionary d = new Dictionary();
+        List<String> valid = d.allGuesses();
+        List<String> answers = d.allCandidates();
+        Random rnd = new Random(23);
+        for (int game = 0; game < 20; game++) {
+            String secret = answers.get(rnd.nextInt(answers.size()));
+            HardModeRules rules = new HardModeRules(d);
+            List<String> gs = new ArrayList<>();
+            List<Integer> codes = new ArrayList<>();
+            for (int turn = 0; turn < 4; turn++) {
+                String g = answers.get(rnd.nextInt(answers.size()));
+                gs.add(g);
+                codes.add(FeedbackCode.evaluate(g, secret));
+                rules.add(g, codes.get(codes.size() - 1));
+                for (int probe = 0; probe < 300; probe++) {
+                    String w = valid.get(rnd.nextInt(valid.size()));
+                    assertEquals(w + " after " + gs, reference(gs, codes, w), rules.allows(w));
+                }
+                assertTrue(rules.allows(secret));
+            }
+        }
+    }
+
+    @Test
+    public void testLegalCountNarrowsWithEachGuess() {
+        Dictionary d = new Dictionary();
+        WordleModel m = new WordleModel(d, new Stats());
+        m.newGame("CRANE");
+        m.setHardMode(true);
+        assertEquals(d.allGuesses().size(), m.legalGuessCount());
+        int before = m.legalGuessCount();
+        for (String g : List.of("TRACE", "CRAVE", "CRANE")) {
+            m.submitGuess(g);
+            // Same set as scanning every valid word
+            List<String> scan = new ArrayList<>();
+            for (String w : d.allGuesses()) if (m.hardModeRules().allows(w)) scan.add(w);
+            assertEquals(scan, m.legalGuesses());
+            assertEquals(scan.size(), m.legalGuessCount());
+            assertTrue(m.legalGuessCount() <= before);
+            before = m.legalGuessCount();
+        }
+        // A snapshot keeps its own rules
+        m.newGame("CRANE");
+        m.submitGuess("TRACE");
+        WordleModel copy = m.snapshot();
+        m.submitGuess("CRAVE");
+        assertTrue(copy.legalGuessCount() > m.legalGuessCount());
+    }
+
+    @Test
+    public void testRepeatedLetterNeedsTwoCopies() {
+        List<String> words = List.of("LLAMA", "HELLO", "LEMON", "ALLOY", "SLATE");
+        Dictionary d = new Dictionary(words, words);
+        HardModeRules rules = new HardModeRules(d);
+        rules.add("LLAMA", FeedbackCode.evaluate("LLAMA", "HELLO")); // two yellow L's
+        assertEquals(2, rules.minCount('L' - 'A'));
+        assertFalse(rules.allows("LEMON"));
+        assertTrue(rules.allows("ALLOY"));
+        assertEquals(List.of("ALLOY", "HELLO", "LLAMA"), rules.legalGuesses());
+        rules.add("HELLO", FeedbackCode.evaluate("HELLO", "HELLO"));
+        assertEquals('H' - 'A', rules.greenAt(0));
+        assertEquals(1, rules.legalCount());
+    }
+}
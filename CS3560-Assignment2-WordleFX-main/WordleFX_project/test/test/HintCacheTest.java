@@ -0,0 +1,118 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+public class HintCacheTest {
+
+    private static WordleModel play(Dictionary d, HintCache cache, String secret, String... guesses) {
+        WordleModel m = new WordleModel(d, new Stats());
+        m.setHintCache(cache);
+        m.newGame(secret);
+        for (String g : guesses) m.submitGuess(g);
+        return m;
+    }
+
+    @Test
+    public void testSamePositionInAnotherOrderHits() {
+        Dictionary d = new Dictionary();
+        HintCache cache = new HintCache(16);
+        WordleModel a = play(d, cache, "CRANE", "MOUNT", "SLATE", "GLYPH");
+        String h = a.hint(HintMode.HEURISTIC);
+        assertEquals(HintMode.HEURISTIC.suggest(a), h);
+        assertEquals(0, cache.hits());
+        assertEquals(1, cache.misses());
+
+        // Another session, same information in a different order (and a repeated guess)
+        WordleModel b = play(d, cache, "CRANE", "GLYPH", "SLATE", "MOUNT", "SLATE");
+        assertEquals(h, b.hint(HintMode.HEURISTIC));
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.size());
+
+        // Another mode is another entry
+        b.hint(HintMode.ENTROPY);
+        assertEquals(2, cache.misses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        Dictionary d = new Dictionary();
+        HintCache cache = new HintCache(2);
+        WordleModel x = play(d, cache, "CRANE", "MOUNT", "SLATE");
+        WordleModel y = play(d, cache, "CRANE", "MOUNT", "GLYPH");
+        WordleModel z = play(d, cache, "CRANE", "SLATE", "GLYPH");
+        x.hint(HintMode.HEURISTIC);
+        y.hint(HintMode.HEURISTIC);
+        x.hint(HintMode.HEURISTIC); // x is now the most recent
+        z.hint(HintMode.HEURISTIC); // evicts y
+        assertEquals(1, cache.evictions());
+        assertEquals(2, cache.size());
+        x.hint(HintMode.HEURISTIC);
+        assertEquals(2, cache.hits());
+        y.hint(HintMode.HEURISTIC);
+        assertEquals(4, cache.misses());
+    }
+
+    @Test
+    public void testChangedWordListsMissAndInvalidate() {
+        Dictionary d = new Dictionary();
+        List<String> fewer = new ArrayList<>(d.allCandidates());
+        fewer.remove("PIZZA");
+        Dictionary changed = new Dictionary(d.allGuesses(), fewer);
+        HintCache cache = new HintCache(16);
+
+        play(d, cache, "CRANE", "MOUNT", "SLATE").hint(HintMode.HEURISTIC);
+        play(changed, cache, "CRANE", "MOUNT", "SLATE").hint(HintMode.HEURISTIC);
+        assertEquals(0, cache.hits());
+        assertEquals(2, cache.size());
+        cache.invalidate(d.fingerprint());
+        assertEquals(1, cache.size());
+        play(changed, cache, "CRANE", "SLATE", "MOUNT").hint(HintMode.HEURISTIC);
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    public void testKeyCoversEveryBoard() {
+        Dictionary d = new Dictionary();
+        WordleModel one = play(d, null, "CRANE", "MOUNT");
+        WordleModel two = new WordleModel(d, new Stats());
+        two.getState().setMaxTurns(7);
+        two.newGame(List.of("CRANE", "SLATE"));
+        two.submitGuess("MOUNT");
+        assertNotEquals(HintCache.key(d, HintMode.HEURISTIC, one.getState()), HintCache.key(d, HintMode.HEURISTIC, two.getState()));
+        assertEquals(HintCache.key(d, HintMode.HEURISTIC, one.getState()), HintCache.key(d, HintMode.HEURISTIC, play(d, null, "BRINE", "MOUNT").getState()));
+    }
+
+    @Test
+    public void testConcurrentUseStaysBounded() throws Exception {
+        Dictionary d = new Dictionary();
+        HintCache cache = new HintCache(8);
+        List<String> answers = d.allCandidates();
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] ts = new Thread[4];
+        for (int t = 0; t < ts.length; t++) {
+            int seed = t;
+            ts[t] = new Thread(() -> {
+                for (int i = 0; i < 40; i++) {
+                    String g = answers.get((seed * 40 + i) % 20);
+                    WordleModel m = play(d, cache, "CRANE", g.equals("CRANE") ? "SLATE" : g);
+                    if (!HintMode.HEURISTIC.suggest(m).equals(m.hint(HintMode.HEURISTIC))) wrong.incrementAndGet();
+                }
+            });
+            ts[t].start();
+        }
+        for (Thread t : ts) t.join();
+        assertEquals(0, wrong.get());
+        assertTrue(cache.size() <= 8);
+        assertEquals(160, cache.hits() + cache.misses());
+        assertTrue(cache.hits() > 0);
+    }
+}
@@ -9,6 +9,7 @@ import java.util.List;
 import wordle.model.Dictionary;
 import wordle.model.Feedback;
 import wordle.model.HintEngine;
+import wordle.model.PatternMatrix;
 import wordle.model.Stats;
 import wordle.model.WordleModel;
 
@@ -32,4 +33,16 @@ public class HintEngineTest {
         assertNotNull(hint);
         assertEquals(5, hint.length());
     }
+
+    @Test
+    public void testEntropyHintPrefersSplittingGuess() {
+        // Guessing any -ATCH word leaves the other four in one bucket; PLUMB separates all five
+        List<String> answers = List.of("BATCH", "HATCH", "LATCH", "MATCH", "PATCH");
+        List<String> guesses = List.of("BATCH", "HATCH", "LATCH", "MATCH", "PATCH", "PLUMB");
+        PatternMatrix m = PatternMatrix.build(guesses, answers);
+
+        int[] all = {0, 1, 2, 3, 4};
+        assertEquals("PLUMB", HintEngine.bestEntropyHint(m, all));
+        assertEquals(Math.log(5) / Math.log(2), HintEngine.expectedEntropy(m, 5, all), 1e-9);
+    }
 }
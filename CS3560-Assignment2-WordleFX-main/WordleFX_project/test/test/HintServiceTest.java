@@ -0,0 +1,83 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import wordle.control.HintService;
+import wordle.model.*;
+
+public class HintServiceTest {
+
+    @Test
+    public void testAsyncHintMatchesSynchronousHint() throws Exception {
+        WordleModel m = new WordleModel(new Dictionary(false), new Stats());
+        m.newGame("CRANE");
+        m.submitGuess("SLATE");
+        HintService hints = new HintService(m);
+        try {
+            assertEquals(m.hint(), hints.request().get(10, TimeUnit.SECONDS));
+        } finally {
+            hints.shutdown();
+        }
+    }
+
+    @Test
+    public void testGuessCancelsPendingHintAndSpeculatesNext() throws Exception {
+        WordleModel m = new WordleModel(new Dictionary(false), new Stats());
+        m.newGame("CRANE");
+        HintService hints = new HintService(m);
+        try {
+            CompletableFuture<String> first = hints.request();
+            hints.setSpeculative(true);
+            m.submitGuess("SLATE");
+
+            assertFalse(hints.isCurrent(first));
+            if (first.isCompletedExceptionally()) {
+                try { first.join(); fail("expected cancellation"); }
+                catch (RuntimeException e) { assertTrue(HintService.isCancellation(e)); }
+            }
+            // The speculative request for the new position is the one request() hands back
+            CompletableFuture<String> next = hints.request();
+            assertTrue(hints.isCurrent(next));
+            assertEquals(m.hint(), next.get(10, TimeUnit.SECONDS));
+        } finally {
+            hints.shutdown();
+        }
+    }
+
+    @Test
+    public void testRequestBeforeTheCoalescedEventArrivesGetsTheNewPosition() throws Exception {
+        WordleModel m = new WordleModel(new Dictionary(false), new Stats());
+        List<Runnable> pulse = new ArrayList<>();
+        m.setDispatchExecutor(pulse::add); // events wait for the next "pulse"
+        m.newGame("CRANE");
+        pulse.forEach(Runnable::run);
+        pulse.clear();
+        HintService hints = new HintService(m);
+        try {
+            hints.setSpeculative(true);
+            CompletableFuture<String> before = hints.request();
+            before.get(10, TimeUnit.SECONDS);
+
+            // Guess, then ask for a hint while the guess's event is still queued
+            m.submitGuess("SLATE");
+            assertFalse(hints.isCurrent(before));
+            CompletableFuture<String> after = hints.request();
+            assertNotSame(before, after);
+            assertTrue(hints.isCurrent(after));
+            assertEquals(m.hint(), after.get(10, TimeUnit.SECONDS));
+
+            // The late event does not throw away the hint already computed for this position
+            pulse.forEach(Runnable::run);
+            assertTrue(hints.isCurrent(after));
+            assertSame(after, hints.request());
+        } finally {
+            hints.shutdown();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Comparator;
+import java.util.List;
+
+import wordle.io.HistoryLog;
+import wordle.model.Stats;
+
+public class HistoryLogTest {
+
+    private static HistoryLog.Entry game(int i) {
+        boolean won = i % 5 != 0;
+        return new HistoryLog.Entry(1_700_000_000_000L + i, "CRANE", won, won ? 1 + i % 6 : 6, i % 2 == 0,
+                1000L * i, List.of("SLATE", "CRANE"));
+    }
+
+    private static void deleteTree(Path dir) throws Exception {
+        if (!Files.exists(dir)) return;
+        try (var s = Files.walk(dir)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) Files.delete(p);
+        }
+    }
+
+    @Test
+    public void testStatsSurviveReopenAcrossSnapshots() throws Exception {
+        Path dir = Files.createTempDirectory("wordle-history");
+        try {
+            Stats expected = new Stats();
+            int n = HistoryLog.SNAPSHOT_EVERY + 10;
+            try (HistoryLog h = HistoryLog.open(dir)) {
+                for (int i = 1; i <= n; i++) {
+                    game(i).applyTo(expected);
+                    h.append(game(i));
+                }
+            }
+            try (HistoryLog h = HistoryLog.open(dir)) {
+                assertEquals(n, h.entryCount());
+                assertEquals(expected.toJson(), h.stats().toJson());
+                List<HistoryLog.Entry> all = h.readAll();
+                assertEquals(n, all.size());
+                assertEquals(List.of("SLATE", "CRANE"), all.get(3).guesses);
+                assertEquals(4000L, all.get(3).durationMillis);
+            }
+        } finally {
+            deleteTree(dir);
+        }
+    }
+
+    @Test
+    public void testTornTailIsDroppedAndTruncated() throws Exception {
+        Path dir = Files.createTempDirectory("wordle-history");
+        try {
+            try (HistoryLog h = HistoryLog.open(dir)) {
+                h.append(game(1));
+                h.append(game(2));
+            }
+            Path log = dir.resolve(HistoryLog.LOG_FILE);
+            long good = Files.size(log);
+            // Simulate a crash halfway through writing a third line
+            Files.write(log, "1 1700000000003 CRA".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+            try (HistoryLog h = HistoryLog.open(dir)) {
+                assertEquals(2, h.entryCount());
+                assertEquals(2, h.stats().played);
+                assertEquals(good, Files.size(log));
+                h.append(game(3));
+            }
+            try (HistoryLog h = HistoryLog.open(dir)) {
+                assertEquals(3, h.readAll().size());
+            }
+        } finally {
+            deleteTree(dir);
+        }
+    }
+}
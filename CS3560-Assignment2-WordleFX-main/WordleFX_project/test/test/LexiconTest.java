@@ -0,0 +1,72 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import wordle.io.BinarySave;
+import wordle.io.GameIO;
+import wordle.model.*;
+
+public class LexiconTest {
+
+    @Test
+    public void testShardsLoadOnFirstUse() {
+        Dictionary five = new Dictionary(List.of("CRANE", "SLATE"), List.of("CRANE"));
+        Lexicon lex = Lexicon.of(five);
+        assertTrue(lex.isLoaded(5));
+        assertFalse(lex.isLoaded(4));
+        assertSame(five, lex.get(5));
+        // No 4-letter lists ship with the game; asking for them fails without touching the current shard
+        WordleModel m = new WordleModel(lex, new Stats());
+        try { m.newGame(4, 5); fail("expected no 4-letter list"); }
+        catch (IllegalArgumentException e) { assertTrue(e.getMessage().contains("4-letter")); }
+        assertEquals(5, m.getState().getWordLength());
+        assertEquals(GameState.MAX_TURNS, m.getState().getMaxTurns());
+    }
+
+    @Test
+    public void testWrappingKeepsPermissivenessAndChecksLength() {
+        assertTrue(Lexicon.of(new Dictionary(true)).isPermissive());
+        assertFalse(Lexicon.of(new Dictionary(false)).isPermissive());
+        // Dictionary takes lengths the Lexicon has no shard for
+        Dictionary nine = new Dictionary(9, List.of("ABANDONED", "ABDUCTION"), List.of("ABANDONED"));
+        try { Lexicon.of(nine); fail("expected a 9-letter dictionary to be refused"); }
+        catch (IllegalArgumentException e) { assertTrue(e.getMessage().contains(Lexicon.MIN_LEN + "-" + Lexicon.MAX_LEN)); }
+    }
+
+    @Test
+    public void testFourLetterGameWithFiveTurns() throws Exception {
+        Dictionary four = new Dictionary(4, List.of("CART", "CARE", "DARE", "TEAR", "crane"), List.of("CARE", "DARE"));
+        assertEquals(List.of("CARE", "CART", "DARE", "TEAR"), four.allGuesses());
+        assertFalse(four.isValidWord("CRANE"));
+
+        WordleModel m = new WordleModel(four, new Stats());
+        m.getState().setMaxTurns(5);
+        m.newGame("DARE");
+        assertEquals(4, m.getState().getWordLength());
+        assertEquals(2, m.remainingCount());
+        m.submitGuess("CARE");
+        assertEquals(1, m.remainingCount());
+        assertEquals(List.of("DARE"), m.remainingCandidates());
+        assertEquals("DARE", m.hint(HintMode.HEURISTIC));
+        for (int i = 0; i < 4; i++) m.submitGuess("TEAR");
+        assertEquals(GameStatus.LOST, m.getState().getStatus());
+        assertEquals(5, m.getState().getGuesses().size());
+
+        // Length and turn limit survive a binary save
+        GameIO.SaveData d = BinarySave.decode(BinarySave.encode(GameIO.capture(m.getState(), m.getStats())));
+        assertEquals("DARE", d.secret);
+        assertEquals(5, d.maxTurns);
+        assertEquals(m.getState().getGuesses(), d.guesses);
+    }
+
+    @Test
+    public void testLongGamesExtendTheDistribution() {
+        Stats s = new Stats();
+        s.recordWin(8);
+        assertEquals(8, s.dist.length);
+        assertEquals(1, s.dist[7]);
+    }
+}
@@ -0,0 +1,67 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import wordle.model.Dictionary;
+import wordle.model.Stats;
+import wordle.model.WordleModel;
+import wordle.util.ModelEvent;
+import wordle.util.ModelListener;
+
+public class ModelEventTest {
+
+    @Test
+    public void testSynchronousTypedEvents() {
+        WordleModel m = new WordleModel(new Dictionary(), new Stats());
+        List<ModelEvent> seen = new ArrayList<>();
+        m.addListener(ModelListener.of(seen::add));
+
+        m.getState().setSecret("CRANE");
+        m.submitGuess("CROWN");
+        m.submitGuess("CRANE");
+
+        assertEquals(2, seen.size());
+        assertTrue(seen.get(0).has(ModelEvent.Type.GUESS_ADDED));
+        assertFalse(seen.get(0).has(ModelEvent.Type.GAME_OVER));
+        assertTrue(seen.get(1).has(ModelEvent.Type.GAME_OVER));
+    }
+
+    @Test
+    public void testCoalescedEventsArriveOncePerTick() {
+        WordleModel m = new WordleModel(new Dictionary(), new Stats());
+        Queue<Runnable> tick = new ArrayDeque<>();
+        m.setDispatchExecutor(tick::add);
+        List<ModelEvent> seen = new ArrayList<>();
+        m.addListener(ModelListener.of(seen::add));
+
+        m.newGame();
+        m.setHardMode(true);
+        m.getState().setSecret("CRANE");
+        m.submitGuess("CRANE");
+        assertTrue(seen.isEmpty());
+        assertEquals(1, tick.size());
+
+        tick.poll().run();
+        assertEquals(1, seen.size());
+        ModelEvent e = seen.get(0);
+        assertTrue(e.has(ModelEvent.Type.NEW_GAME) && e.has(ModelEvent.Type.MODE_CHANGED) && e.has(ModelEvent.Type.GAME_OVER));
+    }
+
+    @Test
+    public void testListenerMayRemoveItselfWhileFiring() {
+        WordleModel m = new WordleModel(new Dictionary(), new Stats());
+        int[] calls = new int[1];
+        ModelListener[] self = new ModelListener[1];
+        self[0] = () -> { calls[0]++; m.removeListener(self[0]); };
+        m.addListener(self[0]);
+        m.newGame();
+        m.newGame();
+        assertEquals(1, calls[0]);
+    }
+}
@@ -0,0 +1,124 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import wordle.io.GameIO;
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+public class MultiBoardTest {
+
+    @Test
+    public void testBatchedEvaluateMatchesSingle() {
+        List<String> secrets = List.of("CRANE", "LLAMA", "HELLO", "ABBEY", "EERIE");
+        int[] codes = new int[secrets.size()];
+        int[] scratch = new int[26];
+        for (String guess : List.of("CRANE", "LEVEL", "ALLAY", "EMBER")) {
+            FeedbackCode.evaluateAll(guess, secrets, codes, scratch);
+            for (int b = 0; b < secrets.size(); b++)
+                assertEquals(guess + "/" + secrets.get(b), FeedbackCode.evaluate(guess, secrets.get(b)), codes[b]);
+        }
+        for (int c : scratch) assertEquals(0, c);
+    }
+
+    @Test
+    public void testBoardsSolveOneAtATime() {
+        Dictionary d = new Dictionary();
+        WordleModel m = new WordleModel(d, new Stats());
+        m.getState().setMaxTurns(9);
+        m.newGame(List.of("CRANE", "SLATE", "MOUNT", "PIZZA"));
+        GameState st = m.getState();
+        assertEquals(4, st.getBoardCount());
+
+        m.submitGuess("SLATE");
+        assertTrue(st.isSolved(1));
+        assertEquals(0, st.getSolvedAt(1));
+        assertEquals(1, m.remainingCount(1));
+        assertEquals(GameStatus.IN_PROGRESS, st.getStatus());
+        m.submitGuess("CRANE");
+        m.submitGuess("MOUNT");
+        assertEquals(3, st.solvedCount());
+        // Every board keeps one feedback row per guess, and each board's candidates match a fresh filter
+        for (int b = 0; b < 4; b++) assertEquals(3, st.getBoardFeedbacks(b).size());
+        assertSame(st.getFeedbacks(), st.getBoardFeedbacks(0));
+        assertEquals(HintEngine.filterCandidates(d.allCandidates(), st.getGuesses(), st.getBoardFeedbacks(3)), m.remainingCandidates(3));
+
+        m.submitGuess("PIZZA");
+        assertEquals(GameStatus.WON, st.getStatus());
+        assertEquals(1, m.getStats().dist[3]);
+    }
+
+    @Test
+    public void testLostWhenTurnsRunOutWithABoardOpen() {
+        WordleModel m = new WordleModel(new Dictionary(), new Stats());
+        m.getState().setMaxTurns(2);
+        m.newGame(List.of("CRANE", "SLATE"));
+        m.submitGuess("CRANE");
+        m.submitGuess("MOUNT");
+        assertEquals(GameStatus.LOST, m.getState().getStatus());
+        assertEquals(1, m.getState().solvedCount());
+    }
+
+    @Test
+    public void testRandomGameHasDistinctSecrets() {
+        WordleModel m = new WordleModel(new Dictionary(), new Stats());
+        m.newGame(5, GameState.defaultTurns(5, 8), 8);
+        assertEquals(8, m.getState().getBoardCount());
+        assertEquals(13, m.getState().getMaxTurns());
+        assertEquals(8, m.getState().getSecrets().stream().distinct().count());
+        // A plain newGame keeps the board count
+        m.newGame();
+        assertEquals(8, m.getState().getBoardCount());
+    }
+
+    @Test
+    public void testJointHintSolvesADecidedBoard() {
+        List<String> words = List.of("CRANE", "SLATE", "MOUNT", "COUNT");
+        WordleModel m = new WordleModel(new Dictionary(words, words), new Stats());
+        m.getState().setMaxTurns(7);
+        m.newGame(List.of("MOUNT", "CRANE"));
+        m.submitGuess("SLATE");
+        // Board 0 could still be MOUNT or COUNT, board 1 can only be CRANE: both modes take the sure board first
+        assertEquals(2, m.remainingCount(0));
+        assertEquals(1, m.remainingCount(1));
+        assertEquals("CRANE", m.hint(HintMode.HEURISTIC));
+        assertEquals("CRANE", m.hint(HintMode.ENTROPY));
+        m.submitGuess("CRANE");
+        assertEquals(1, m.openCandidateSets().length);
+        assertTrue(List.of("MOUNT", "COUNT").contains(m.hint(HintMode.ENTROPY)));
+    }
+
+    @Test
+    public void testSaveRoundTripReplaysOtherBoards() throws Exception {
+        Dictionary d = new Dictionary();
+        for (String name : List.of("multi.json", "multi.wsav")) {
+            WordleModel m = new WordleModel(d, new Stats());
+            m.getState().setMaxTurns(9);
+            m.newGame(List.of("CRANE", "SLATE", "MOUNT", "PIZZA"));
+            m.submitGuess("SLATE");
+            m.submitGuess("MOUNT");
+            Path p = Files.createTempDirectory("wordle-multi").resolve(name);
+            GameIO.save(m.getState(), m.getStats(), p);
+
+            WordleModel back = new WordleModel(d, new Stats());
+            GameIO.loadInto(back, p);
+            GameState st = back.getState();
+            assertEquals(m.getState().getSecrets(), st.getSecrets());
+            assertEquals(9, st.getMaxTurns());
+            assertEquals(0, st.getSolvedAt(1));
+            assertEquals(1, st.getSolvedAt(2));
+            assertFalse(st.isSolved(0));
+            for (int b = 0; b < 4; b++) {
+                assertEquals(FeedbackCode.encode(m.getState().getBoardFeedbacks(b).get(1)),
+                        FeedbackCode.encode(st.getBoardFeedbacks(b).get(1)));
+                assertEquals(m.remainingCount(b), back.remainingCount(b));
+            }
+            assertEquals(GameStatus.IN_PROGRESS, st.getStatus());
+        }
+    }
+}
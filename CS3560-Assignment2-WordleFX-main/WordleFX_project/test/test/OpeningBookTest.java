@@ -0,0 +1,92 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+public class OpeningBookTest {
+
+    // Every 10th answer of the bundled list: big enough for real splits, small enough to build quickly
+    private static Dictionary sample() {
+        List<String> all = new Dictionary().allCandidates();
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += 10) words.add(all.get(i));
+        return new Dictionary(words, words);
+    }
+
+    @Test
+    public void testBookMatchesLiveHints() throws Exception {
+        Dictionary d = sample();
+        String opener = d.allCandidates().get(7);
+        OpeningBook book = OpeningBook.build(d, List.of(HintMode.values()), List.of(opener));
+        assertTrue(book.matches(d));
+
+        // Round trip through the file format
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        book.write(out);
+        OpeningBook back = OpeningBook.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(book.size(), back.size());
+        assertTrue(back.matches(d));
+
+        WordleModel m = new WordleModel(d, new Stats());
+        for (HintMode mode : HintMode.values()) {
+            m.newGame(d.allCandidates().get(0));
+            assertEquals(mode.suggest(m), back.lookup(mode, m.getState().getGuesses(), m.getState().getFeedbacks()));
+            for (String secret : d.allCandidates()) {
+                if (secret.equals(opener)) continue;
+                m.newGame(secret);
+                m.submitGuess(opener);
+                assertEquals(mode + " after " + opener + " on " + secret, mode.suggest(m),
+                        back.lookup(mode, m.getState().getGuesses(), m.getState().getFeedbacks()));
+            }
+        }
+    }
+
+    @Test
+    public void testBookOnlyCoversTheFirstTwoTurns() {
+        Dictionary d = sample();
+        List<String> words = d.allCandidates();
+        OpeningBook book = OpeningBook.build(d, List.of(HintMode.HEURISTIC), List.of());
+        WordleModel m = new WordleModel(d, new Stats());
+        m.newGame(words.get(3));
+        String first = book.lookup(HintMode.HEURISTIC, m.getState().getGuesses(), m.getState().getFeedbacks());
+        assertNotNull(first);
+        assertNull(book.lookup(HintMode.ENTROPY, m.getState().getGuesses(), m.getState().getFeedbacks()));
+        // An opener the book was not built for misses, as does any third turn
+        String other = words.get(0).equals(first) ? words.get(1) : words.get(0);
+        m.submitGuess(other);
+        assertNull(book.lookup(HintMode.HEURISTIC, m.getState().getGuesses(), m.getState().getFeedbacks()));
+        m.newGame(words.get(3));
+        m.submitGuess(first.equals(words.get(3)) ? other : first);
+        m.submitGuess(other);
+        assertNull(book.lookup(HintMode.HEURISTIC, m.getState().getGuesses(), m.getState().getFeedbacks()));
+
+        // The model consults an installed book first; live and booked hints agree
+        d.useOpeningBook(book);
+        m.newGame(words.get(3));
+        assertEquals(first, m.hint(HintMode.HEURISTIC));
+    }
+
+    @Test
+    public void testChangedWordListsInvalidateTheBook() {
+        Dictionary d = sample();
+        List<String> fewer = new ArrayList<>(d.allCandidates());
+        fewer.remove(0);
+        Dictionary changed = new Dictionary(fewer, fewer);
+        assertNotEquals(d.fingerprint(), changed.fingerprint());
+        assertEquals(d.fingerprint(), new Dictionary(d.allGuesses(), d.allCandidates()).fingerprint());
+
+        OpeningBook book = OpeningBook.build(d, List.of(HintMode.HEURISTIC), List.of());
+        assertFalse(book.matches(changed));
+        try { changed.useOpeningBook(book); fail("expected a stale book to be refused"); }
+        catch (IllegalArgumentException expected) {}
+        assertFalse(OpeningBook.EMPTY.matches(d));
+    }
+}
@@ -0,0 +1,57 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import wordle.model.FeedbackCode;
+import wordle.model.PatternMatrix;
+
+public class PatternMatrixTest {
+
+    private static final List<String> GUESSES = List.of("CRANE", "CROWN", "EERIE", "SLATE", "TRACE");
+    private static final List<String> ANSWERS = List.of("CRANE", "THREE", "TRACE");
+
+    @Test
+    public void testTableMatchesDirectEvaluation() {
+        PatternMatrix m = PatternMatrix.build(GUESSES, ANSWERS);
+        for (int g = 0; g < GUESSES.size(); g++)
+            for (int a = 0; a < ANSWERS.size(); a++)
+                assertEquals(FeedbackCode.evaluate(GUESSES.get(g), ANSWERS.get(a)), m.pattern(g, a));
+    }
+
+    @Test
+    public void testCacheFileIsReusedByNextLoad() throws Exception {
+        Path dir = Files.createTempDirectory("wordle-cache");
+        PatternMatrix first = PatternMatrix.load(GUESSES, ANSWERS, dir);
+        try (var files = Files.list(dir)) { assertEquals(1, files.count()); }
+
+        PatternMatrix second = PatternMatrix.load(GUESSES, ANSWERS, dir);
+        assertEquals(first.hash(), second.hash());
+        for (int g = 0; g < GUESSES.size(); g++)
+            for (int a = 0; a < ANSWERS.size(); a++)
+                assertEquals(first.pattern(g, a), second.pattern(g, a));
+
+        // A different word list must not pick up the old file
+        PatternMatrix other = PatternMatrix.load(GUESSES, List.of("SLATE"), dir);
+        assertEquals(FeedbackCode.allGreen(5), other.pattern("SLATE", 0));
+    }
+
+    @Test
+    public void testNewListsReplaceTheOldCacheFile() throws Exception {
+        Path dir = Files.createTempDirectory("wordle-cache");
+        Files.write(dir.resolve("patterns-0123abcd.bin"), new byte[8]); // named before lengths were in the name
+        PatternMatrix.load(GUESSES, ANSWERS, dir);
+        PatternMatrix four = PatternMatrix.load(List.of("CART", "CARE"), List.of("CARE"), dir);
+        PatternMatrix edited = PatternMatrix.load(GUESSES, List.of("SLATE", "CRANE"), dir);
+        // One file per word length: the edited 5-letter lists replaced the old table, the 4-letter one stays
+        try (var files = Files.list(dir)) {
+            List<String> names = files.map(p -> p.getFileName().toString()).sorted().toList();
+            assertEquals(List.of("patterns-4-" + Long.toHexString(four.hash()) + ".bin",
+                    "patterns-5-" + Long.toHexString(edited.hash()) + ".bin"), names);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 
-package test; import org.junit.Test; import static org.junit.Assert.*; import wordle.model.*; import wordle.io.GameIO; import java.nio.file.Path;
+package test; import org.junit.Test; import static org.junit.Assert.*; import wordle.model.*; import wordle.io.GameIO; import wordle.io.AutoSaver; import wordle.io.BinarySave; import java.nio.file.*; import java.util.List;
 public class PersistenceTest {
     @Test public void testSaveLoadRoundTrip() throws Exception {
         Dictionary d=new Dictionary(); Stats s=new Stats(); WordleModel m=new WordleModel(d,s);
@@ -7,4 +7,44 @@ public class PersistenceTest {
         Stats s2=new Stats(); GameState g2=new GameState("XXXXX"); GameIO.loadInto(g2, s2, Path.of("savegame_test.json"));
         assertEquals(m.getState().getGuesses(), g2.getGuesses()); assertEquals(m.getState().getTurn(), g2.getTurn());
     }
+    @Test public void testAutoSaverDebouncesAndWritesAtomically() throws Exception {
+        Path dir=Files.createTempDirectory("wordle-autosave"); Path file=dir.resolve(AutoSaver.FILE_NAME);
+        WordleModel m=new WordleModel(new Dictionary(), new Stats()); m.newGame("CRANE");
+        AutoSaver saver=new AutoSaver(m, file, 10_000);
+        try {
+            m.submitGuess("SLATE"); m.submitGuess("CROWN"); m.setHardMode(true);
+            assertFalse(Files.exists(file)); // still inside the debounce window
+            saver.flush(); assertEquals(1, saver.saveCount());
+            GameState g=new GameState("XXXXX"); GameIO.loadInto(g, null, file);
+            assertEquals(List.of("SLATE","CROWN"), g.getGuesses()); assertTrue(g.isHardMode());
+            try (var s=Files.list(dir)) { assertEquals(1, s.count()); } // no temp files left behind
+        } finally { saver.close(); try (var s=Files.list(dir)) { for (Path p: s.toList()) Files.delete(p); } Files.delete(dir); }
+    }
+    @Test public void testBinarySaveRoundTripAndSniffing() throws Exception {
+        Stats s=new Stats(); s.recordWin(3); s.recordWin(4); s.recordLoss(); WordleModel m=new WordleModel(new Dictionary(), s);
+        m.newGame("CRANE"); m.setHardMode(true); m.submitGuess("SLATE"); m.submitGuess("CRATE");
+        Path dir=Files.createTempDirectory("wordle-binsave"); Path bin=dir.resolve("game"+BinarySave.EXTENSION); Path renamed=dir.resolve("game.json");
+        try {
+            GameIO.save(m.getState(), s, bin); byte[] bytes=Files.readAllBytes(bin);
+            assertTrue(BinarySave.sniff(bytes)); assertTrue(bytes.length <= 40);
+            Files.copy(bin, renamed); // header sniffing wins over the extension
+            Stats s2=new Stats(); GameState g2=new GameState("XXXXX"); GameIO.loadInto(g2, s2, renamed);
+            assertEquals("CRANE", g2.getSecret()); assertEquals(m.getState().getGuesses(), g2.getGuesses()); assertTrue(g2.isHardMode()); assertEquals(2, g2.getTurn());
+            for (int k=0;k<2;k++) assertArrayEquals(m.getState().getFeedbacks().get(k), g2.getFeedbacks().get(k));
+            assertEquals(s.toJson(), s2.toJson());
+            bytes[10]^=1; // any flipped bit fails the checksum
+            try { BinarySave.decode(bytes); fail("expected checksum failure"); } catch (java.io.IOException e) { assertTrue(e.getMessage().contains("checksum")); }
+        } finally { Files.deleteIfExists(bin); Files.deleteIfExists(renamed); Files.delete(dir); }
+    }
+    @Test public void testBinarySaveRefusesImpossibleCounts() throws Exception {
+        // Checksummed saves whose guess count is huge or negative: refused before anything is allocated for it
+        for (byte[] count : new byte[][]{ {(byte)0xFF,(byte)0xFF,(byte)0xFF,(byte)0xFF,0x07}, {(byte)0xFF,(byte)0xFF,(byte)0xFF,(byte)0xFF,0x0F}, {0x03} }) {
+            java.io.ByteArrayOutputStream out=new java.io.ByteArrayOutputStream(); out.writeBytes(BinarySave.MAGIC); out.write(1); out.write(0); out.write(5);
+            for (long p=WordPack.pack("CRANE"); ; p>>>=7) { if (p < 0x80) { out.write((int)p); break; } out.write((int)(p&0x7F)|0x80); }
+            out.write(0); out.writeBytes(count); out.writeBytes(new byte[]{0,0,0,0,0});
+            java.util.zip.CRC32 crc=new java.util.zip.CRC32(); crc.update(out.toByteArray()); long v=crc.getValue();
+            out.write((int)(v>>>24)); out.write((int)(v>>>16)); out.write((int)(v>>>8)); out.write((int)v);
+            try { BinarySave.decode(out.toByteArray()); fail("expected a bad count"); } catch (java.io.IOException e) { assertTrue(e.getMessage(), e.getMessage().contains("Bad count")); }
+        }
+    }
 }
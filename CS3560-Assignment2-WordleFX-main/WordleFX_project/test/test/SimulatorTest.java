@@ -0,0 +1,37 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import wordle.Simulator;
+import wordle.model.Dictionary;
+import wordle.model.HintMode;
+
+public class SimulatorTest {
+
+    @Test
+    public void testResultsDoNotDependOnThreadCount() throws Exception {
+        Dictionary d = new Dictionary(false);
+        List<String> answers = d.allCandidates().subList(0, 200);
+
+        Simulator.Report one = Simulator.run(d, HintMode.HEURISTIC, answers, 1, false);
+        Simulator.Report many = Simulator.run(d, HintMode.HEURISTIC, answers, 3, false);
+
+        assertEquals(200, one.played);
+        assertArrayEquals(one.dist, many.dist);
+        assertEquals(one.failures, many.failures);
+        assertEquals(one.totalGuesses, many.totalGuesses);
+    }
+
+    @Test
+    public void testHardModeEntropyOnlySuggestsLegalGuesses() throws Exception {
+        Dictionary d = new Dictionary(false);
+        List<String> answers = d.allCandidates().subList(0, 40);
+        Simulator.Report r = Simulator.run(d, HintMode.ENTROPY, answers, 2, true);
+        assertEquals(40, r.played);
+        assertEquals(0, r.rejected);
+        assertEquals(0, r.failures);
+    }
+}
@@ -0,0 +1,139 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import wordle.io.WordListWatcher;
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+public class WordListWatcherTest {
+
+    private static Path lists(List<String> valid, List<String> answers) throws IOException {
+        Path dir = Files.createTempDirectory("wordle-lists");
+        Files.write(dir.resolve("valid.txt"), valid);
+        Files.write(dir.resolve("answers.txt"), answers);
+        return dir;
+    }
+
+    @Test
+    public void testReloadSwapsForNewGamesOnly() throws Exception {
+        Path dir = lists(List.of("CRANE", "SLATE", "MOUNT"), List.of("CRANE", "SLATE"));
+        Dictionary first = Dictionary.fromDirectory(dir, 5, false);
+        assertEquals(List.of("CRANE", "MOUNT", "SLATE"), first.allGuesses());
+        Lexicon lex = Lexicon.of(first);
+        WordleModel m = new WordleModel(lex, new Stats());
+        m.newGame("CRANE");
+        m.submitGuess("MOUNT");
+
+        Files.write(dir.resolve("valid.txt"), List.of("CRANE", "SLATE", "MOUNT", "PIZZA"));
+        WordListWatcher w = new WordListWatcher(lex, dir);
+        Dictionary second = w.reload(5);
+        assertNotSame(first, second);
+        assertSame(second, lex.get(5));
+        assertEquals(1, w.reloadCount());
+
+        // The game in progress keeps the lists it started with; the next one uses the new lists
+        assertSame(first, m.getDictionary());
+        assertFalse(m.isValid("PIZZA"));
+        m.newGame("SLATE");
+        assertSame(second, m.getDictionary());
+        assertTrue(m.isValid("PIZZA"));
+
+        // Touching a file without changing it publishes nothing; a broken list keeps the old one
+        Files.write(dir.resolve("valid.txt"), List.of("PIZZA", "MOUNT", "SLATE", "CRANE"));
+        assertSame(second, w.reload(5));
+        Files.write(dir.resolve("valid.txt"), List.of());
+        Files.write(dir.resolve("answers.txt"), List.of());
+        try { w.reload(5); fail("expected empty lists to be refused"); }
+        catch (IOException expected) {}
+        assertSame(second, lex.get(5));
+        assertEquals(1, w.reloadCount());
+        w.close();
+    }
+
+    @Test
+    public void testRandomNewGameUsesThePublishedLists() {
+        Lexicon lex = Lexicon.of(new Dictionary(List.of("CRANE", "SLATE"), List.of("CRANE", "SLATE")));
+        WordleModel m = new WordleModel(lex, new Stats());
+        m.newGame();
+        // Lists with no word in common with the old ones: the next secret must come from them
+        Dictionary fresh = new Dictionary(List.of("BOUND", "PIOUS"), List.of("BOUND", "PIOUS"));
+        lex.publish(fresh);
+        for (int i = 0; i < 10; i++) {
+            m.newGame();
+            String secret = m.getState().getSecret();
+            assertTrue(secret, List.of("BOUND", "PIOUS").contains(secret));
+            assertSame(fresh, m.getDictionary());
+            assertTrue(m.isValid(secret));
+            assertTrue(m.remainingCandidates().contains(secret));
+        }
+        m.submitGuess(m.getState().getSecret());
+        assertEquals(GameStatus.WON, m.getState().getStatus());
+    }
+
+    @Test
+    public void testBackupFilesAreNotWordLists() throws Exception {
+        Path dir = lists(List.of("CRANE", "SLATE"), List.of("CRANE"));
+        Files.write(dir.resolve("valid.txt~"), List.of("MOUNT"));
+        Files.write(dir.resolve("answers.txt.bak"), List.of("PIZZA"));
+        Files.write(dir.resolve("valid_extra.txt"), List.of("BOUND"));
+        Dictionary d = Dictionary.fromDirectory(dir, 5, false);
+        assertEquals(List.of("BOUND", "CRANE", "SLATE"), d.allGuesses());
+        assertEquals(List.of("CRANE"), d.allCandidates());
+        assertTrue(Dictionary.isWordListFile("Answers.TXT"));
+        assertFalse(Dictionary.isWordListFile("valid.txt.swp"));
+    }
+
+    @Test
+    public void testWatcherPicksUpEdits() throws Exception {
+        Path dir = lists(List.of("CRANE", "SLATE"), List.of("CRANE"));
+        Lexicon lex = Lexicon.of(Dictionary.fromDirectory(dir, 5, false));
+        AtomicInteger published = new AtomicInteger();
+        try (WordListWatcher w = new WordListWatcher(lex, dir, 50)) {
+            w.addListener(d -> published.incrementAndGet());
+            w.start();
+            Files.write(dir.resolve("answers.txt"), List.of("CRANE", "MOUNT"));
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (!lex.get(5).isValidWord("MOUNT") && System.currentTimeMillis() < deadline) Thread.sleep(20);
+            assertTrue(lex.get(5).isValidWord("MOUNT"));
+            assertEquals(List.of("CRANE", "MOUNT"), lex.get(5).allCandidates());
+            assertEquals(1, published.get());
+            // Indexes were built before publishing
+            assertEquals(1, lex.get(5).trie().count("MO"));
+        }
+    }
+
+    @Test
+    public void testReadersNeverSeeAHalfBuiltDictionary() throws Exception {
+        Path dir = lists(List.of("CRANE", "SLATE"), List.of("CRANE", "SLATE"));
+        Lexicon lex = Lexicon.of(Dictionary.fromDirectory(dir, 5, false));
+        WordListWatcher w = new WordListWatcher(lex, dir);
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicInteger bad = new AtomicInteger();
+        Thread reader = new Thread(() -> {
+            while (!stop.get()) {
+                Dictionary d = lex.get(5);
+                // Every published snapshot is whole: its lists, index and trie agree
+                if (d.allGuesses().size() != d.trie().count(WordTrie.ROOT) || !d.isValidWord(d.allCandidates().get(0))) bad.incrementAndGet();
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 20; i++) {
+            Files.write(dir.resolve("valid.txt"), i % 2 == 0 ? List.of("CRANE", "SLATE", "MOUNT") : List.of("CRANE", "SLATE"));
+            w.reload(5);
+        }
+        stop.set(true);
+        reader.join();
+        assertEquals(0, bad.get());
+        assertEquals(20, w.reloadCount());
+        w.close();
+    }
+}
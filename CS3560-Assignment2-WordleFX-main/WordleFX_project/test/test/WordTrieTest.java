@@ -0,0 +1,81 @@
+package test;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import wordle.model.*;
+import wordle.model.Dictionary;
+
+public class WordTrieTest {
+
+    @Test
+    public void testCountsAndCompletionsMatchAScan() {
+        Dictionary d = new Dictionary();
+        List<String> words = d.allGuesses();
+        WordTrie trie = d.trie();
+        assertSame(trie, d.trie());
+        assertEquals(words.size(), trie.count(WordTrie.ROOT));
+        String[] out = new String[4];
+        for (String prefix : List.of("C", "CR", "CRA", "CRAN", "CRANE", "Q", "XY", "ZZZ", "CRX", "")) {
+            int scan = 0;
+            String first = null;
+            for (String w : words) if (w.startsWith(prefix)) { if (first == null) first = w; scan++; }
+            int node = trie.find(prefix);
+            assertEquals(prefix, scan, trie.count(node));
+            assertEquals(prefix, scan == 0, node < 0);
+            int n = trie.completions(node, out);
+            assertEquals(Math.min(4, scan), n);
+            if (n > 0) assertEquals(first, out[0]);
+            for (int i = 0; i < n; i++) assertTrue(out[i].startsWith(prefix));
+        }
+    }
+
+    @Test
+    public void testWholeWordValidityIsAByProduct() {
+        Dictionary d = new Dictionary();
+        WordTrie trie = d.trie();
+        for (String w : d.allGuesses()) assertTrue(w, trie.contains(w));
+        for (String w : List.of("CRANX", "ZZZZZ", "CRAN", "CRANES", "crane")) assertEquals(w, d.isValidWord(w), trie.contains(w));
+        assertTrue(trie.isWord(trie.find("CRANE")));
+        assertFalse(trie.isWord(trie.find("CRAN")));
+        // Walking one letter at a time lands on the same node as find()
+        int node = WordTrie.ROOT;
+        for (char c : "slate".toCharArray()) node = trie.step(node, c);
+        assertEquals(trie.find("SLATE"), node);
+        assertEquals(-1, trie.step(-1, 'A'));
+    }
+
+    @Test
+    public void testSmallListShape() {
+        List<String> words = List.of("ABBEY", "ABBOT", "ABIDE", "CRANE");
+        WordTrie trie = new WordTrie(words, 5);
+        assertEquals(3, trie.count("AB"));
+        assertEquals(2, trie.count("ABB"));
+        assertEquals(0, trie.count("B"));
+        assertEquals(2, trie.first(trie.find("ABI")));
+        // root + A, C + AB, CR + ABB, ABI, CRA + 4 x 2 deeper levels
+        assertEquals(1 + 2 + 2 + 3 + 4 + 4, trie.size());
+    }
+
+    @Test
+    public void testKeystrokeWalkMatchesFind() {
+        Dictionary d = new Dictionary();
+        WordTrie trie = d.trie();
+        String[] out = new String[3];
+        // Each keystroke's node, count and completions agree whether reached by one step or from the root
+        for (String typed : List.of("CRANE", "SLATE", "QAJAQ")) {
+            int node = WordTrie.ROOT;
+            for (int k = 1; k <= typed.length(); k++) {
+                node = trie.step(node, typed.charAt(k - 1));
+                String prefix = typed.substring(0, k);
+                assertEquals(prefix, trie.find(prefix), node);
+                assertEquals(prefix, trie.count(prefix), trie.count(node));
+                int n = trie.completions(node, out);
+                for (int i = 0; i < n; i++) assertTrue(out[i].startsWith(prefix));
+            }
+            assertEquals(typed, d.isValidWord(typed), trie.isWord(node));
+        }
+    }
+}
@@ -4,4 +4,5 @@ public class WordleModelTest {
     @Test public void testExactMatchAllGreen(){ WordleModel m=new WordleModel(new Dictionary(), new Stats()); Feedback[] fb=m.evaluate("HELLO","HELLO"); for(Feedback f:fb) assertEquals(Feedback.GREEN,f); }
     @Test public void testDuplicateLettersHandled(){ WordleModel m=new WordleModel(new Dictionary(), new Stats()); Feedback[] fb=m.evaluate("LLAMA","HELLO"); int y=0,g=0; for(Feedback f:fb){ if(f==Feedback.YELLOW)y++; if(f==Feedback.GREEN)g++; } assertTrue(y+g<=3); }
     @Test public void testHardModeViolationThrows(){ Dictionary d=new Dictionary(); Stats s=new Stats(); WordleModel m=new WordleModel(d,s); m.getState().setSecret("CRANE"); m.submitGuess("CROWN"); m.setHardMode(true); boolean threw=false; try{ m.submitGuess("ABOUT"); } catch(IllegalArgumentException ex){ threw=true; } assertTrue(threw); }
+    @Test public void testCandidateSetNarrowsIncrementally(){ Dictionary d=new Dictionary(); WordleModel m=new WordleModel(d,new Stats()); int all=m.remainingCount(); assertEquals(d.allCandidates().size(), all); m.getState().setSecret("CRANE"); m.submitGuess("CROWN"); m.submitGuess("CRANK"); assertTrue(m.remainingCount() < all); assertEquals(HintEngine.filterCandidates(d.allCandidates(), m.getState().getGuesses(), m.getState().getFeedbacks()), m.remainingCandidates()); assertTrue(m.remainingCandidates().contains("CRANE")); m.newGame(); assertEquals(all, m.remainingCount()); }
 }